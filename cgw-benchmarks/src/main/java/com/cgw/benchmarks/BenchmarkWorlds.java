@@ -0,0 +1,48 @@
+package com.cgw.benchmarks;
+
+import com.cgw.exceptions.GenerationFailureException;
+import com.cgw.generators.GenerationContext;
+import com.cgw.generators.WorldGenerationConfig;
+import com.cgw.generators.WorldGenerator;
+
+/**
+ * Shared set up for the Benchmarks, using the same Seed so each Benchmark generates the same Worlds every run.
+ * @author Luke Burston
+ * @author lb800@kent.ac.uk
+ * @version 0.1
+ * @since 0.1
+ */
+final class BenchmarkWorlds {
+
+    static final long SEED = 272727;    // Seed of every World generated in the Benchmarks.
+
+    /**
+     * Constructor for a BenchmarkWorlds object.
+     */
+    private BenchmarkWorlds() {
+    }
+
+    /**
+     * Creates a Generation Context with an empty World from the Seed, for Benchmarks that use its Generators
+     * without generating a World.
+     * @return The Generation Context.
+     */
+    static GenerationContext newContext() {
+        WorldGenerationConfig config = new WorldGenerationConfig();
+        config.setSeed(SEED);
+        return new GenerationContext(config);
+    }
+
+    /**
+     * Generates a new World from the Seed, so the same World is generated each time.
+     * @param config The settings for the Generation, which are given the Seed.
+     * @return The Generation Context of the generated World.
+     * @throws GenerationFailureException Thrown if Generation fails during an Iteration.
+     */
+    static GenerationContext generateWorld(WorldGenerationConfig config) throws GenerationFailureException {
+        config.setSeed(SEED);
+        WorldGenerator worldGenerator = new WorldGenerator(config);
+        worldGenerator.generateWorld();
+        return worldGenerator.getContext();
+    }
+}
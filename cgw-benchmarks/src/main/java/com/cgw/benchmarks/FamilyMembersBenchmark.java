@@ -0,0 +1,59 @@
+package com.cgw.benchmarks;
+
+import com.cgw.exceptions.GenerationFailureException;
+import com.cgw.features.NPC;
+import com.cgw.generators.WorldGenerationConfig;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks getting the Family Members of, and checking Family Members between, every NPC of a generated World.
+ * @author Luke Burston
+ * @author lb800@kent.ac.uk
+ * @version 0.1
+ * @since 0.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FamilyMembersBenchmark {
+
+    private List<NPC> npcs;
+
+    /**
+     * Generates the World whose NPCs are checked.
+     * @throws GenerationFailureException Thrown if Generation fails during an Iteration.
+     */
+    @Setup(Level.Trial)
+    public void setUpWorld() throws GenerationFailureException {
+        npcs = BenchmarkWorlds.generateWorld(new WorldGenerationConfig()).getWorld().getAllNPCs();
+    }
+
+    /**
+     * Gets the Family Members of every NPC.
+     * @param blackhole Consumes each Set of Family Members.
+     */
+    @Benchmark
+    public void getFamilyMembers(Blackhole blackhole) {
+        for(NPC npc : npcs) {
+            blackhole.consume(npc.getFamilyMembers());
+        }
+    }
+
+    /**
+     * Checks whether each NPC is a Family Member of the next NPC in the World.
+     * @param blackhole Consumes each result.
+     */
+    @Benchmark
+    public void isFamilyMemberOf(Blackhole blackhole) {
+        for(int index = 1; index < npcs.size(); index++) {
+            blackhole.consume(npcs.get(index).isFamilyMemberOf(npcs.get(index - 1)));
+        }
+    }
+}
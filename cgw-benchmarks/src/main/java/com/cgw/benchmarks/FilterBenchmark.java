@@ -0,0 +1,74 @@
+package com.cgw.benchmarks;
+
+import com.cgw.exceptions.GenerationFailureException;
+import com.cgw.features.Feature;
+import com.cgw.features.NPC;
+import com.cgw.features.World;
+import com.cgw.generators.FeatureManager;
+import com.cgw.generators.GenerationContext;
+import com.cgw.generators.WorldGenerationConfig;
+import com.cgw.relationships.Predicate;
+import com.cgw.relationships.RelationshipLabel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks filtering every NPC of a generated World for each Predicate an NPC can be chosen for.
+ * Residents are filtered for a Settlement, all others for an Adult NPC.
+ * @author Luke Burston
+ * @author lb800@kent.ac.uk
+ * @version 0.1
+ * @since 0.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FilterBenchmark {
+
+    @Param({"resident", "partner", "parent", "child", "sibling"})
+    private String predicateString;
+
+    private FeatureManager featureManager;
+    private Predicate predicate;
+    private Feature subjectFeature;
+    private List<NPC> npcs;
+
+    /**
+     * Generates the World to filter and chooses the Predicate and Subject Feature.
+     * @throws GenerationFailureException Thrown if Generation fails during an Iteration.
+     */
+    @Setup(Level.Trial)
+    public void setUpWorld() throws GenerationFailureException {
+        GenerationContext context = BenchmarkWorlds.generateWorld(new WorldGenerationConfig());
+        World world = context.getWorld();
+        featureManager = context.getFeatureManager();
+        RelationshipLabel label = RelationshipLabel.getLabelFromString(predicateString);
+        predicate = context.getRelationshipGenerator().getPredicateFromLabel(label);
+        npcs = world.getAllNPCs();
+        if(label == RelationshipLabel.RESIDENT) {
+            subjectFeature = world.getAllSettlements().get(0);
+        } else {
+            for(NPC npc : npcs) {
+                if(!npc.isNotAdult()) {
+                    subjectFeature = npc;
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Filters all NPCs of the World by the Predicate.
+     * @return The NPCs that could be chosen.
+     */
+    @Benchmark
+    public ArrayList<NPC> filterNPCsByPredicate() {
+        return featureManager.filterNPCsByPredicate(predicate, subjectFeature, npcs);
+    }
+}
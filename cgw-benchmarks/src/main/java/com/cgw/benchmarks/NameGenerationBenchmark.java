@@ -0,0 +1,88 @@
+package com.cgw.benchmarks;
+
+import com.cgw.exceptions.GenerationFailureException;
+import com.cgw.features.NPC;
+import com.cgw.features.Settlement;
+import com.cgw.generators.GenerationContext;
+import com.cgw.generators.feature.NPCGenerator;
+import com.cgw.generators.feature.NameRegistry;
+import com.cgw.generators.feature.SettlementGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the name generation of NPCs and Settlements. Generating an NPC or Settlement also assigns it a
+ * unique name, so the used names are cleared after as many Features as a single World could hold,
+ * to stop the name space running out during a long Benchmark.
+ * @author Luke Burston
+ * @author lb800@kent.ac.uk
+ * @version 0.1
+ * @since 0.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class NameGenerationBenchmark {
+
+    private static final int NPCS_BEFORE_CLEAR = 10000;
+    private static final int SETTLEMENTS_BEFORE_CLEAR = 500;
+
+    private NameRegistry nameRegistry;
+    private NPCGenerator npcGenerator;
+    private SettlementGenerator settlementGenerator;
+    private int npcsSinceClear;
+    private int settlementsSinceClear;
+
+    /**
+     * Gets the Generators with their Streams from the Seed, with no used names.
+     */
+    @Setup(Level.Trial)
+    public void setUpGenerators() {
+        GenerationContext context = BenchmarkWorlds.newContext();
+        nameRegistry = context.getNameRegistry();
+        npcGenerator = context.getNPCGenerator();
+        settlementGenerator = context.getSettlementGenerator();
+    }
+
+    /**
+     * Generates a random first name for a Non-Binary NPC, which may come from either list of names.
+     * @return The first name.
+     */
+    @Benchmark
+    public String generateFirstName() {
+        return npcGenerator.generateFirstName('n');
+    }
+
+    /**
+     * Generates a new random NPC, including its unique full name.
+     * @return The generated NPC.
+     * @throws GenerationFailureException Thrown if the NPC could not be generated.
+     */
+    @Benchmark
+    public NPC generateNPC() throws GenerationFailureException {
+        if(++npcsSinceClear == NPCS_BEFORE_CLEAR) {
+            nameRegistry.clear();
+            npcGenerator.resetNameOrders();
+            npcsSinceClear = 0;
+        }
+        return npcGenerator.generateRandomFeature();
+    }
+
+    /**
+     * Generates a new random Settlement, including its unique name.
+     * @return The generated Settlement.
+     * @throws GenerationFailureException Thrown if the Settlement could not be generated.
+     */
+    @Benchmark
+    public Settlement generateSettlement() throws GenerationFailureException {
+        if(++settlementsSinceClear == SETTLEMENTS_BEFORE_CLEAR) {
+            nameRegistry.clear();
+            settlementsSinceClear = 0;
+        }
+        return settlementGenerator.generateRandomFeature();
+    }
+}
@@ -0,0 +1,55 @@
+package com.cgw.benchmarks;
+
+import com.cgw.exceptions.GenerationFailureException;
+import com.cgw.features.Feature;
+import com.cgw.generators.GenerationContext;
+import com.cgw.generators.RelationshipGenerator;
+import com.cgw.generators.WorldGenerationConfig;
+import com.cgw.relationships.Relationship;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks generating a new Relationship for each Feature of a generated World in turn.
+ * The Relationships are not saved, so the World stays the same throughout.
+ * @author Luke Burston
+ * @author lb800@kent.ac.uk
+ * @version 0.1
+ * @since 0.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RelationshipGenerationBenchmark {
+
+    private RelationshipGenerator relationshipGenerator;
+    private List<Feature> features;
+    private int featureIndex;
+
+    /**
+     * Generates the World whose Features are given Relationships.
+     * @throws GenerationFailureException Thrown if Generation fails during an Iteration.
+     */
+    @Setup(Level.Trial)
+    public void setUpWorld() throws GenerationFailureException {
+        GenerationContext context = BenchmarkWorlds.generateWorld(new WorldGenerationConfig());
+        features = context.getWorld().getFeatures();
+        relationshipGenerator = context.getRelationshipGenerator();
+    }
+
+    /**
+     * Generates a new Relationship for the next Feature of the World.
+     * @return The Relationship, which may be unfinished or Null.
+     */
+    @Benchmark
+    public Relationship generateNewRelationship() {
+        Feature feature = features.get(featureIndex);
+        featureIndex = (featureIndex + 1) % features.size();
+        return relationshipGenerator.generateNewRelationship(feature);
+    }
+}
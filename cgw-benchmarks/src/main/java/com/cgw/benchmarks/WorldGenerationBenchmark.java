@@ -0,0 +1,65 @@
+package com.cgw.benchmarks;
+
+import com.cgw.exceptions.GenerationFailureException;
+import com.cgw.features.World;
+import com.cgw.generators.WorldGenerationConfig;
+import com.cgw.generators.WorldGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks generating a whole World at several sizes. The Family and Residence Stopping Criteria are set to
+ * every NPC, so that Generation continues until the size limit is reached.
+ * @author Luke Burston
+ * @author lb800@kent.ac.uk
+ * @version 0.1
+ * @since 0.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class WorldGenerationBenchmark {
+
+    @Param({"200", "800", "3200"})
+    private int maxNPCs;
+
+    private WorldGenerationConfig config;
+    private WorldGenerator worldGenerator;
+
+    /**
+     * Sets up the config for this World size, from the Benchmark Seed. The Settlement limit is set high enough
+     * that the NPC limit is reached first.
+     */
+    @Setup(Level.Trial)
+    public void setUpConfig() {
+        config = new WorldGenerationConfig();
+        config.setSeed(BenchmarkWorlds.SEED);
+        config.setMaxNPCs(maxNPCs);
+        config.setMaxSettlements(Math.max(1, maxNPCs / 10));
+        config.setResidencePercentage(1.0);
+        config.setFamilyPercentage(1.0);
+    }
+
+    /**
+     * Creates a new World Generator with an empty World before each Generation.
+     */
+    @Setup(Level.Invocation)
+    public void setUpWorldGenerator() {
+        worldGenerator = new WorldGenerator(config);
+    }
+
+    /**
+     * Generates a World up to the size limits.
+     * @return The generated World.
+     * @throws GenerationFailureException Thrown if Generation fails during an Iteration.
+     */
+    @Benchmark
+    public World generateWorld() throws GenerationFailureException {
+        worldGenerator.generateWorld();
+        return worldGenerator.getWorld();
+    }
+}
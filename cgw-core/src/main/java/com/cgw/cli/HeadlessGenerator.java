@@ -0,0 +1,262 @@
+package com.cgw.cli;
+
+import com.cgw.exceptions.GenerationFailureException;
+import com.cgw.features.World;
+import com.cgw.generators.GeneratedWorld;
+import com.cgw.generators.WorldBatchGenerator;
+import com.cgw.generators.WorldGenerationConfig;
+import com.cgw.io.WorldFormat;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A Main class to Generate Worlds from the command line and write them to disk, without starting the Application.
+ * Nothing here uses JavaFX, so it can be run from the classpath on machines without a display, e.g.
+ * {@code java -cp <classpath> com.cgw.cli.HeadlessGenerator --seed 42 --format json --output world.json}
+ * @author Luke Burston
+ * @author lb800@kent.ac.uk
+ * @version 0.1
+ * @since 0.1
+ */
+public class HeadlessGenerator {
+
+    // Exit codes of the program.
+    static final int EXIT_SUCCESS = 0;
+    static final int EXIT_FAILURE = 1;
+    static final int EXIT_USAGE = 2;
+
+    private static final String USAGE = """
+            Usage: HeadlessGenerator [options]
+              --seed <long>                Seed of the (first) World, random if not given.
+              --max-npcs <int>             Amount of NPCs above which Generation stops.
+              --max-settlements <int>      Amount of Settlements above which Generation stops.
+              --format <text|json|jsonl|binary>
+                                           Format of the written World, json if not given.
+              --output <path>              File to write the World to, or directory when Generating more than one.
+              --count <int>                Amount of Worlds to Generate, each from the next Seed. 1 if not given.
+              --progress                   Prints the progress of each Iteration when Generating a single World.
+              --help                       Prints this message.""";
+
+    // Options, set from the arguments.
+    private final WorldGenerationConfig config;
+    private WorldFormat format;
+    private Path output;
+    private int count;
+    private boolean progress;
+
+    /**
+     * Constructor for the Generator with the default options.
+     */
+    HeadlessGenerator() {
+        config = new WorldGenerationConfig();
+        format = WorldFormat.JSON;
+        count = 1;
+    }
+
+    /**
+     * Generates the Worlds and exits with 0 if all were written, 1 if any failed, or 2 if the arguments are invalid.
+     * @param args Arguments passed, as described by --help.
+     */
+    public static void main(String[] args) {
+        System.exit(new HeadlessGenerator().run(args, System.out, System.err));
+    }
+
+    /**
+     * Reads the arguments, then Generates and writes the Worlds.
+     * @param args Arguments passed.
+     * @param out Where progress is printed.
+     * @param err Where errors are printed.
+     * @return The exit code.
+     */
+    int run(String[] args, PrintStream out, PrintStream err) {
+        try {
+            if(!parseArguments(args)) {
+                out.println(USAGE);
+                return EXIT_SUCCESS;
+            }
+        } catch (IllegalArgumentException ex) {
+            err.println(ex.getMessage());
+            err.println(USAGE);
+            return EXIT_USAGE;
+        }
+
+        try {
+            if(count == 1) {
+                return generateSingle(out, err);
+            }
+            return generateBatch(out, err);
+        } catch (IOException ex) {
+            err.println("Could not write World: " + ex.getMessage());
+            return EXIT_FAILURE;
+        }
+    }
+
+    /**
+     * Sets the options from the arguments.
+     * @param args Arguments passed.
+     * @return False if help was asked for, otherwise True.
+     * @throws IllegalArgumentException If an argument is unknown, missing its value, or its value is invalid,
+     * or --progress is used with a --count above 1.
+     */
+    boolean parseArguments(String[] args) {
+        for(int i = 0; i < args.length; i++) {
+            String option = args[i];
+            if(option.equals("--help") || option.equals("-h")) {
+                return false;
+            }
+            if(option.equals("--progress")) {
+                progress = true;
+                continue;
+            }
+            if(i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value for " + option);
+            }
+            String value = args[++i];
+            try {
+                switch (option) {
+                    case "--seed" -> config.setSeed(Long.parseLong(value));
+                    case "--max-npcs" -> config.setMaxNPCs(Integer.parseInt(value));
+                    case "--max-settlements" -> config.setMaxSettlements(Integer.parseInt(value));
+                    case "--format" -> format = WorldFormat.fromName(value);
+                    case "--output" -> output = Path.of(value);
+                    case "--count" -> {
+                        count = Integer.parseInt(value);
+                        if(count < 1) {
+                            throw new IllegalArgumentException("Count must be at least 1, was " + count);
+                        }
+                    }
+                    default -> throw new IllegalArgumentException("Unknown option " + option);
+                }
+            } catch (NumberFormatException ex) {
+                throw new IllegalArgumentException("Invalid number for " + option + ": " + value);
+            }
+        }
+        if(progress && count > 1) {
+            throw new IllegalArgumentException("--progress can only be used when Generating a single World");
+        }
+        return true;
+    }
+
+    /**
+     * Generates a single World and writes it to the output file, or to "world" with the
+     * Format's extension in the current directory.
+     * @param out Where progress is printed.
+     * @param err Where errors are printed.
+     * @return The exit code.
+     * @throws IOException If the World cannot be written.
+     */
+    private int generateSingle(PrintStream out, PrintStream err) throws IOException {
+        ProgressPrinter progressPrinter = progress ? new ProgressPrinter(out) : null;
+        GeneratedWorld generatedWorld = WorldBatchGenerator.generateOne(0, config.getSeed(), config, progressPrinter);
+        if(progressPrinter != null) {
+            try {
+                progressPrinter.awaitDone();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if(!generatedWorld.isSuccessful()) {
+            printFailure(generatedWorld, err);
+            return EXIT_FAILURE;
+        }
+        Path file = output != null ? output : Path.of("world." + format.getExtension());
+        write(generatedWorld, file, out);
+        return EXIT_SUCCESS;
+    }
+
+    /**
+     * Generates a batch of Worlds, writing each one to the output directory as soon as it is Generated
+     * so it does not need to be kept. Each World is written to its own file on the Thread that Generated it,
+     * so Worlds are written at the same time, and a World that cannot be written is reported as failed
+     * without stopping the rest of the batch.
+     * @param out Where progress is printed.
+     * @param err Where errors are printed.
+     * @return The exit code.
+     * @throws IOException If the output directory cannot be created.
+     */
+    private int generateBatch(PrintStream out, PrintStream err) throws IOException {
+        Path directory = output != null ? output : Path.of("");
+        Files.createDirectories(directory.toAbsolutePath());
+        int successful = new WorldBatchGenerator().generate(count, config.getSeed(), config,
+                generatedWorld -> writeToDirectory(generatedWorld, directory, out),
+                generatedWorld -> {
+                    if(!generatedWorld.isSuccessful()) {
+                        printFailure(generatedWorld, err);
+                    }
+                });
+        out.println("Generated and wrote " + successful + " of " + count + " Worlds");
+        return successful == count ? EXIT_SUCCESS : EXIT_FAILURE;
+    }
+
+    /**
+     * Writes a batch World to its own file in the output directory, if it was Generated.
+     * @param generatedWorld The Generated World.
+     * @param directory The output directory.
+     * @param out Where progress is printed.
+     * @return The Generated World, or a failed World holding the reason it could not be written.
+     */
+    private GeneratedWorld writeToDirectory(@NotNull GeneratedWorld generatedWorld, Path directory, PrintStream out) {
+        if(!generatedWorld.isSuccessful()) {
+            return generatedWorld;
+        }
+        try {
+            write(generatedWorld, directory.resolve(fileName(generatedWorld)), out);
+            return generatedWorld;
+        } catch (IOException ex) {
+            return new GeneratedWorld(generatedWorld.getIndex(), generatedWorld.getSeed(), null, ex,
+                    generatedWorld.getGenerationTime(TimeUnit.NANOSECONDS));
+        }
+    }
+
+    /**
+     * Writes the Generated World to the file in the chosen Format.
+     * @param generatedWorld The Generated World.
+     * @param file The file to write to.
+     * @param out Where progress is printed.
+     * @throws IOException If the World cannot be written.
+     */
+    private void write(@NotNull GeneratedWorld generatedWorld, Path file, PrintStream out) throws IOException {
+        World world = generatedWorld.getWorld();
+        format.createWriter().write(world, file);
+        out.println("Wrote " + world.getName() + " (Seed " + generatedWorld.getSeed() + ", "
+                + world.numberOfNPCs() + " NPCs, " + world.numberOfSettlements() + " Settlements, "
+                + generatedWorld.getGenerationTime(TimeUnit.MILLISECONDS) + "ms) to " + file);
+    }
+
+    /**
+     * Returns the name of a batch World's file, from its Seed so each file is different.
+     * @param generatedWorld The Generated World.
+     * @return The file name.
+     */
+    private String fileName(@NotNull GeneratedWorld generatedWorld) {
+        return "world-" + generatedWorld.getSeed() + "." + format.getExtension();
+    }
+
+    /**
+     * Prints why a World failed to Generate, or could not be written.
+     * @param generatedWorld The failed World.
+     * @param err Where errors are printed.
+     */
+    private void printFailure(@NotNull GeneratedWorld generatedWorld, PrintStream err) {
+        Exception failure = generatedWorld.getFailure();
+        if(failure instanceof IOException) {
+            err.println("World with Seed " + generatedWorld.getSeed() + " could not be written: "
+                    + failure.getMessage());
+            return;
+        }
+        String reason;
+        if(failure == null) {
+            reason = "unknown reason";
+        } else if(failure instanceof GenerationFailureException) {
+            reason = failure.getMessage();
+        } else {
+            reason = failure.toString();    // Includes the type, as an unexpected Exception's message may be Null.
+        }
+        err.println("World with Seed " + generatedWorld.getSeed() + " failed to Generate: " + reason);
+    }
+}
@@ -0,0 +1,76 @@
+package com.cgw.cli;
+
+import com.cgw.generators.GenerationProgress;
+
+import java.io.PrintStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+
+/**
+ * Subscribes to the Generation Progress of a World and prints each snapshot on its own line,
+ * so Generation can be followed from the command line.
+ * @author Luke Burston
+ * @author lb800@kent.ac.uk
+ * @version 0.1
+ * @since 0.1
+ */
+class ProgressPrinter implements Flow.Subscriber<GenerationProgress> {
+
+    private final PrintStream out;
+    private Flow.Subscription subscription;
+    // Counted down once the last snapshot has been printed, or Generation failed.
+    private final CountDownLatch done = new CountDownLatch(1);
+
+    /**
+     * Constructor for a Printer of Progress.
+     * @param out Where the Progress is printed.
+     */
+    ProgressPrinter(PrintStream out) {
+        this.out = out;
+    }
+
+    /**
+     * Asks for the first snapshot once Subscribed.
+     * @param subscription The Subscription to the Progress.
+     */
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(1);
+    }
+
+    /**
+     * Prints a snapshot, then asks for the next.
+     * @param progress The snapshot.
+     */
+    @Override
+    public void onNext(GenerationProgress progress) {
+        out.println(progress);
+        subscription.request(1);
+    }
+
+    /**
+     * Stops waiting if Generation failed, which is reported once Generation returns.
+     * @param failure The reason Generation failed.
+     */
+    @Override
+    public void onError(Throwable failure) {
+        done.countDown();
+    }
+
+    /**
+     * Stops waiting once every snapshot has been printed.
+     */
+    @Override
+    public void onComplete() {
+        done.countDown();
+    }
+
+    /**
+     * Waits until every snapshot has been printed, so they come before anything printed after Generation.
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    void awaitDone() throws InterruptedException {
+        done.await();
+    }
+}
@@ -3,9 +3,13 @@ package com.cgw.features;
 import org.apache.commons.lang3.tuple.Triple;
 import com.cgw.relationships.Predicate;
 import com.cgw.relationships.Relationship;
+import com.cgw.relationships.RelationshipLabel;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.Iterator;
+import java.util.List;
 
 /**
  * Superclass for Features of the World. Sharing a Name Attribute and a Relationships List.
@@ -21,6 +25,10 @@ public abstract class Feature {
     // and a String as a quick reference as to the predicate that this Feature is in relation to the current Feature.
     // e.g. <"mother", Clara Ilipsus, @Relationship#id>: Clara Ilipsus is the current Feature's Mother.
     protected ArrayList<Triple<String, Feature, Relationship>> relationships;
+    // The same Relationship Triples, indexed by their Label so checks only look at Relationships of that type.
+    // e.g. MOTHER -> [<"mother", Clara Ilipsus, @Relationship#id>]
+    private final EnumMap<RelationshipLabel, ArrayList<Triple<String, Feature, Relationship>>> relationshipIndex =
+            new EnumMap<>(RelationshipLabel.class);
     protected String name;
 
     public Feature() {}
@@ -85,6 +93,10 @@ public abstract class Feature {
      */
     public void addRelationship(Triple<String, Feature, Relationship> relationship) {
         relationships.add(relationship);
+        RelationshipLabel label = RelationshipLabel.getLabelFromString(relationship.getLeft());
+        if (label != null) {
+            relationshipIndex.computeIfAbsent(label, key -> new ArrayList<>()).add(relationship);
+        }
     }
 
     /**
@@ -107,11 +119,81 @@ public abstract class Feature {
             Triple<String, Feature, Relationship> relationship = relationshipIterator.next();
             if(relationship.getRight() == relationshipToRemove) {
                 relationshipIterator.remove();
+                // Also removes the Triple from its Label's index.
+                RelationshipLabel label = RelationshipLabel.getLabelFromString(relationship.getLeft());
+                if (label != null && relationshipIndex.containsKey(label)) {
+                    relationshipIndex.get(label).remove(relationship);
+                }
                 break;
             }
         }
     }
 
+    /**
+     * Returns the Relationship Triples of the Feature with the given Label, without searching all Relationships.
+     * @param label The Label to get the Relationships of, e.g. MOTHER.
+     * @return An unmodifiable List of the Triples with that Label, empty if none.
+     */
+    public List<Triple<String, Feature, Relationship>> getRelationshipsOfLabel(RelationshipLabel label) {
+        ArrayList<Triple<String, Feature, Relationship>> labelledRelationships = relationshipIndex.get(label);
+        if (labelledRelationships == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(labelledRelationships);
+    }
+
+    /**
+     * Returns the amount of Relationships the Feature has with the given Label.
+     * @param label The Label to count, e.g. CHILD.
+     * @return int of the amount of Relationships with that Label.
+     */
+    public int numberOfRelationships(RelationshipLabel label) {
+        ArrayList<Triple<String, Feature, Relationship>> labelledRelationships = relationshipIndex.get(label);
+        return labelledRelationships == null ? 0 : labelledRelationships.size();
+    }
+
+    /**
+     * Checks if the Feature has at least one Relationship with the given Label.
+     * @param label The Label to check for, e.g. RESIDENCE.
+     * @return Boolean of whether the Feature has a Relationship with that Label.
+     */
+    public boolean hasRelationship(RelationshipLabel label) {
+        return numberOfRelationships(label) > 0;
+    }
+
+    /**
+     * Returns the first Relationship Triple of the Feature with the given Label.
+     * @param label The Label to search for, e.g. PARTNER.
+     * @return The first Triple with that Label, or Null if none.
+     */
+    public Triple<String, Feature, Relationship> getFirstRelationshipOfLabel(RelationshipLabel label) {
+        ArrayList<Triple<String, Feature, Relationship>> labelledRelationships = relationshipIndex.get(label);
+        if (labelledRelationships == null || labelledRelationships.isEmpty()) {
+            return null;
+        }
+        return labelledRelationships.get(0);
+    }
+
+    /**
+     * Checks if the Feature has a Relationship with the given Label to the given Feature.
+     * Only searches the Relationships of that Label.
+     * @param feature The other Feature to check against.
+     * @param label The Label the other Feature must be to this one, e.g. CHILD.
+     * @return Boolean of whether the given Feature is linked to this one with that Label.
+     */
+    public boolean hasRelationshipWith(Feature feature, RelationshipLabel label) {
+        ArrayList<Triple<String, Feature, Relationship>> labelledRelationships = relationshipIndex.get(label);
+        if (labelledRelationships == null) {
+            return false;
+        }
+        for (Triple<String, Feature, Relationship> relationship : labelledRelationships) {
+            if (relationship.getMiddle() == feature) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Overrides the toString method to return the name of the Feature.
      * @return The name of the Feature as a String.
@@ -0,0 +1,115 @@
+package com.cgw.features;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * A Pool of Features kept up to date by the World, used to randomly choose a Feature that meets a condition
+ * without filtering every Feature of the World. e.g. All NPCs without a place of Residence.
+ * Adding, removing and choosing are all done in constant time.
+ * @param <T> The Feature subclass held in this Pool.
+ * @author Luke Burston
+ * @author lb800@kent.ac.uk
+ * @version 0.1
+ * @since 0.1
+ */
+public class FeaturePool<T extends Feature> {
+
+    private final ArrayList<T> features;            // Features in the Pool, in no particular order.
+    private final HashMap<T, Integer> positions;    // Position of each Feature within the ArrayList.
+
+    /**
+     * Constructor of the Feature Pool, creating an empty Pool.
+     */
+    public FeaturePool() {
+        features = new ArrayList<>();
+        positions = new HashMap<>();
+    }
+
+    /**
+     * Adds the Feature to the Pool, if not already in it.
+     * @param feature The Feature to be added.
+     */
+    public void add(T feature) {
+        if (!positions.containsKey(feature)) {
+            positions.put(feature, features.size());
+            features.add(feature);
+        }
+    }
+
+    /**
+     * Removes the Feature from the Pool, if in it, by moving the last Feature into its position.
+     * @param feature The Feature to be removed.
+     */
+    public void remove(T feature) {
+        Integer position = positions.remove(feature);
+        if (position != null) {
+            T lastFeature = features.remove(features.size() - 1);
+            if (lastFeature != feature) {
+                features.set(position, lastFeature);
+                positions.put(lastFeature, position);
+            }
+        }
+    }
+
+    /**
+     * Adds or removes the Feature depending on whether it currently meets the Pool's condition.
+     * @param feature The Feature to update.
+     * @param meetsCondition Whether the Feature should be in the Pool.
+     */
+    public void update(T feature, boolean meetsCondition) {
+        if (meetsCondition) {
+            add(feature);
+        } else {
+            remove(feature);
+        }
+    }
+
+    /**
+     * Checks whether the Feature is within the Pool.
+     * @param feature The Feature to check.
+     * @return Boolean of whether the Feature is within the Pool.
+     */
+    public boolean contains(T feature) {
+        return positions.containsKey(feature);
+    }
+
+    /**
+     * Returns a random Feature from the Pool.
+     * @param random The Random Generator to choose with.
+     * @return A randomly chosen Feature, or Null if the Pool is empty.
+     */
+    public T getRandom(RandomGenerator random) {
+        if (features.isEmpty()) {
+            return null;
+        }
+        return features.get(random.nextInt(features.size()));
+    }
+
+    /**
+     * Returns the amount of Features in the Pool.
+     * @return The size of the Pool.
+     */
+    public int size() {
+        return features.size();
+    }
+
+    /**
+     * Checks whether the Pool has no Features.
+     * @return Boolean of whether the Pool is empty.
+     */
+    public boolean isEmpty() {
+        return features.isEmpty();
+    }
+
+    /**
+     * Returns a read-only view of the Features within the Pool.
+     * @return An unmodifiable List of the Features in the Pool.
+     */
+    public List<T> getFeatures() {
+        return Collections.unmodifiableList(features);
+    }
+}
@@ -4,9 +4,9 @@ import com.cgw.generators.FeatureManager;
 import org.apache.commons.lang3.tuple.Triple;
 import com.cgw.relationships.Predicate;
 import com.cgw.relationships.Relationship;
+import com.cgw.relationships.RelationshipLabel;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * The NPC Feature of the World, which stands for 'Non-Player Character'. These are the People of the World.
@@ -55,7 +55,7 @@ public class NPC extends Feature {
      * @return The ArrayList of Predicates that can be assigned to this NPC.
      */
     public ArrayList<Predicate> filterSubjectPredicates(ArrayList<Predicate> predicates) {
-        return FeatureManager.getFeatureManager().filterNPCSubjectPredicates(this, predicates);
+        return FeatureManager.filterNPCSubjectPredicates(this, predicates);
     }
 
     /* Relationship Getters */
@@ -66,9 +66,7 @@ public class NPC extends Feature {
      */
     public Relationship getSettlementTheyRule() {
         if(isARuler()) {
-            return Objects.requireNonNull(relationships.stream()
-                    .filter(relationship -> relationship.getLeft().equals("rules"))
-                    .findFirst().orElse(null)).getRight();
+            return getFirstRelationshipOfLabel(RelationshipLabel.RULES).getRight();
         } else {return null;}
     }
 
@@ -77,12 +75,9 @@ public class NPC extends Feature {
      * @return The Settlement this NPC lives in, or null if none.
      */
     public Settlement getResidence() {
-        Settlement residence = relationships.stream()
-                .filter(relationship -> relationship.getLeft().equals("residence"))
-                .map(relationship -> (Settlement) relationship.getMiddle())
-                .findFirst().orElse(null);
+        Triple<String, Feature, Relationship> residence = getFirstRelationshipOfLabel(RelationshipLabel.RESIDENCE);
         if(Objects.nonNull(residence)) {
-            return residence;
+            return (Settlement) residence.getMiddle();
         }
         return null;
     }
@@ -92,12 +87,9 @@ public class NPC extends Feature {
      * @return The NPC this NPC is a Partner to, or null if none.
      */
     public NPC getPartner() {
-        NPC partner =  relationships.stream()
-                .filter(relationship -> relationship.getLeft().equals("partner"))
-                .map(relationship -> (NPC) relationship.getMiddle())
-                .findFirst().orElse(null);
+        Triple<String, Feature, Relationship> partner = getFirstRelationshipOfLabel(RelationshipLabel.PARTNER);
         if(Objects.nonNull(partner)) {
-            return  partner;
+            return (NPC) partner.getMiddle();
         }
         return null;
     }
@@ -107,11 +99,11 @@ public class NPC extends Feature {
      * @return An ArrayList of NPCs that are a Parent to this NPC.
      */
     public ArrayList<NPC> getParents() {
-        return relationships.stream()
-                .filter(relationship ->
-                        relationship.getLeft().matches("mother|father|parent"))
-                .map(relationship -> (NPC) relationship.getMiddle())
-                .collect(Collectors.toCollection(ArrayList::new));
+        ArrayList<NPC> parents = new ArrayList<>(numberOfParents());
+        addNPCsOfLabel(parents, RelationshipLabel.MOTHER);
+        addNPCsOfLabel(parents, RelationshipLabel.FATHER);
+        addNPCsOfLabel(parents, RelationshipLabel.PARENT);
+        return parents;
     }
 
     /**
@@ -119,11 +111,9 @@ public class NPC extends Feature {
      * @return An ArrayList of NPCs that are a Sibling to this NPC.
      */
     public ArrayList<NPC> getSiblings() {
-        return relationships.stream()
-                .filter(relationship ->
-                        relationship.getLeft().equals("sibling"))
-                .map(relationship -> (NPC) relationship.getMiddle())
-                .collect(Collectors.toCollection(ArrayList::new));
+        ArrayList<NPC> siblings = new ArrayList<>(numberOfSiblings());
+        addNPCsOfLabel(siblings, RelationshipLabel.SIBLING);
+        return siblings;
     }
 
     /**
@@ -131,10 +121,20 @@ public class NPC extends Feature {
      * @return An ArrayList of NPCs that are a Child to this NPC.
      */
     public ArrayList<NPC> getChildren() {
-        return relationships.stream()
-                .filter(relationship -> relationship.getLeft().equals("child"))
-                .map(relationship -> (NPC) relationship.getMiddle())
-                .collect(Collectors.toCollection(ArrayList::new));
+        ArrayList<NPC> children = new ArrayList<>(numberOfChildren());
+        addNPCsOfLabel(children, RelationshipLabel.CHILD);
+        return children;
+    }
+
+    /**
+     * Adds the NPC of each Relationship with the given Label to the given ArrayList.
+     * @param npcs The ArrayList to add to.
+     * @param label The Label of the Relationships to add the NPCs of.
+     */
+    private void addNPCsOfLabel(ArrayList<NPC> npcs, RelationshipLabel label) {
+        for(Triple<String, Feature, Relationship> relationship : getRelationshipsOfLabel(label)) {
+            npcs.add((NPC) relationship.getMiddle());
+        }
     }
 
     /**
@@ -182,23 +182,49 @@ public class NPC extends Feature {
     }
 
     /**
-     * Returns a HashSet of all blood relatives of this NPC.
-     * @return A HashSet of all blood relatives of this NPC.
+     * Returns all blood relatives of this NPC, by walking through the whole of their Family.
+     * To check whether a single NPC is a blood relative, isFamilyMemberOf is much quicker.
+     * @return A read-only Set of all blood relatives of this NPC.
+     */
+    public Set<NPC> getFamilyMembers() {
+        return Collections.unmodifiableSet(findFamilyMembers(Integer.MAX_VALUE));
+    }
+
+    /**
+     * Checks whether this NPC has more than two blood relatives, stopping at the third found rather than finding
+     * all of their Family Members.
+     * @return Boolean of whether this NPC has more than two Family Members.
      */
-    public HashSet<NPC> getFamilyMembers() {
+    public boolean hasMoreThanTwoFamilyMembers() {
+        return findFamilyMembers(3).size() > 2;
+    }
+
+    /**
+     * Finds the blood relatives of this NPC by walking through their Family Relationships.
+     * @param limit The amount of Family Members at which to stop walking, or Integer.MAX_VALUE to find them all.
+     * @return A HashSet of the blood relatives of this NPC found.
+     */
+    private HashSet<NPC> findFamilyMembers(int limit) {
         // First gets all immediate Family Member relationships; Parents, Children, and Siblings.
-        ArrayList<Triple<String, Feature, Relationship>> familyRelationships = relationships.stream()
-                .filter(relationship -> relationship.getLeft().matches("mother|father|parent|child|sibling"))
-                .collect(Collectors.toCollection(ArrayList::new));
+        ArrayList<Triple<String, Feature, Relationship>> familyRelationships = new ArrayList<>();
+        addFamilyRelationships(this, familyRelationships, true);
+        // Tracks which NPCs have already been reached, rather than searching the whole list each time.
+        HashSet<Feature> reached = new HashSet<>();
+        for(Triple<String, Feature, Relationship> familyRelationship : familyRelationships) {
+            reached.add(familyRelationship.getMiddle());
+        }
 
-        ArrayList<NPC> familyMembers = new ArrayList<>();
+        // A HashSet, as an extra barrier to prevent duplicate family members being included.
+        HashSet<NPC> family = new HashSet<>();
 
         // Loops through all Family Member relationships, which can increase during, but not indefinitely.
         for(int index = 0; index < familyRelationships.size(); index++) {
             Triple<String, Feature, Relationship> currentMemberRelationship = familyRelationships.get(index);
             NPC currentMember = (NPC) currentMemberRelationship.getMiddle();    // Gets the NPC from the Relationship.
-            familyMembers.add(currentMember);   // Adds them to an ArrayList of Family Members to return.
-            String search = ""; // Initializing the String Regex to use for finding this Member's Family Members.
+            // Adds them to the Family Members to return, stopping once enough have been found.
+            if(currentMember != this && family.add(currentMember) && family.size() >= limit) {
+                return family;
+            }
 
             // Depending on what this Relationship is, determines which of their Family Members will be added.
             // Any Parent relationship should also include any of their immediate Family as they are blood related.
@@ -206,28 +232,109 @@ public class NPC extends Feature {
             // been included and blood related parents will be too. The other parent is not a blood relative so is not
             // needed. Due to age limits on both NPC generation and assigning Parents, there will only be so many
             // parent Relationships in a family tree going up, and so will then only get their children from there on.
-            switch(familyRelationships.get(index).getLeft()) {
-                case "mother", "father", "parent" -> { search = "mother|father|parent|child|sibling"; }
-                case "child", "sibling" -> { search = "child"; }
-            }
-            String finalSearch = search;
-            // Now loops through this current Family Member's own Family Members as dictated by the above filter,
+            boolean isParent = RelationshipLabel.getLabelFromString(currentMemberRelationship.getLeft()).isParent();
+            ArrayList<Triple<String, Feature, Relationship>> currentMembersFamily = new ArrayList<>();
+            addFamilyRelationships(currentMember, currentMembersFamily, isParent);
+            // Now loops through this current Family Member's own Family Members as dictated by the above,
             // and for each one, checks if it hasn't already been added to the list of those to be returned, and adds.
-            for(Triple<String, Feature, Relationship> currentMembersFamily :
-                    currentMember.getTripleRelationships().stream()
-                    .filter(relationships -> relationships.getLeft().matches(finalSearch))
-                    .collect(Collectors.toCollection(ArrayList::new))) {
-                if(familyRelationships.stream().noneMatch(npc -> npc.getMiddle() == currentMembersFamily.getMiddle())) {
-                    familyRelationships.add(currentMembersFamily);
+            for(Triple<String, Feature, Relationship> currentMembersRelative : currentMembersFamily) {
+                if(reached.add(currentMembersRelative.getMiddle())) {
+                    familyRelationships.add(currentMembersRelative);
                 }
             }
         }
-        // Returns a HashSet of the ArrayList, as an extra barrier to prevent duplicate family members being included.
-        HashSet<NPC> family = new HashSet<>(familyMembers);
-        family.remove(this);
         return family;
     }
 
+    /**
+     * Adds this NPC and their Siblings to the given Set, then does the same for each of their Parents going up.
+     * Two NPCs are blood relatives when these Blood Lines meet, as they then share an ancestor or Sibling of one.
+     * @param bloodLines The Set to add to.
+     * @param ancestors The NPCs already walked up from, so an ancestor reached by two Parents is only walked once.
+     */
+    private void addBloodLines(HashSet<NPC> bloodLines, HashSet<NPC> ancestors) {
+        if(!ancestors.add(this)) { return; }
+        bloodLines.add(this);
+        for(Triple<String, Feature, Relationship> sibling : getRelationshipsOfLabel(RelationshipLabel.SIBLING)) {
+            bloodLines.add((NPC) sibling.getMiddle());
+        }
+        addParentsBloodLines(bloodLines, ancestors, RelationshipLabel.MOTHER);
+        addParentsBloodLines(bloodLines, ancestors, RelationshipLabel.FATHER);
+        addParentsBloodLines(bloodLines, ancestors, RelationshipLabel.PARENT);
+    }
+
+    /**
+     * Adds the Blood Lines of this NPC's Parents of the given label to the given Set.
+     * @param bloodLines The Set to add to.
+     * @param ancestors The NPCs already walked up from.
+     * @param label The Parent label to add the Blood Lines of.
+     */
+    private void addParentsBloodLines(HashSet<NPC> bloodLines, HashSet<NPC> ancestors, RelationshipLabel label) {
+        for(Triple<String, Feature, Relationship> parent : getRelationshipsOfLabel(label)) {
+            ((NPC) parent.getMiddle()).addBloodLines(bloodLines, ancestors);
+        }
+    }
+
+    /**
+     * Returns this NPC, their Siblings, and the same for each of their Parents going up. Found once, these can be
+     * checked against many NPCs with sharesBloodLineWith, rather than calling isFamilyMemberOf for each.
+     * @return A read-only Set of the Blood Lines of this NPC.
+     */
+    public Set<NPC> getBloodLines() {
+        HashSet<NPC> bloodLines = new HashSet<>();
+        addBloodLines(bloodLines, new HashSet<>());
+        return Collections.unmodifiableSet(bloodLines);
+    }
+
+    /**
+     * Checks whether this NPC, one of their Siblings, or the same of any of their Parents going up, is in the given
+     * Blood Lines. A Parent is always older than their Child, so the walk up always ends.
+     * An NPC always shares their own Blood Lines, so the NPC they were found for must be checked for separately.
+     * @param bloodLines The Blood Lines of another NPC, from getBloodLines.
+     * @return Boolean of whether this NPC's Blood Lines meet the given ones.
+     */
+    public boolean sharesBloodLineWith(Set<NPC> bloodLines) {
+        if(bloodLines.contains(this)) { return true; }
+        for(Triple<String, Feature, Relationship> sibling : getRelationshipsOfLabel(RelationshipLabel.SIBLING)) {
+            if(bloodLines.contains((NPC) sibling.getMiddle())) { return true; }
+        }
+        return parentsShareBloodLine(bloodLines, RelationshipLabel.MOTHER) ||
+                parentsShareBloodLine(bloodLines, RelationshipLabel.FATHER) ||
+                parentsShareBloodLine(bloodLines, RelationshipLabel.PARENT);
+    }
+
+    /**
+     * Checks whether any of this NPC's Parents of the given label share the given Blood Lines.
+     * @param bloodLines The Blood Lines of another NPC.
+     * @param label The Parent label to check.
+     * @return Boolean of whether a Parent's Blood Lines meet the given ones.
+     */
+    private boolean parentsShareBloodLine(Set<NPC> bloodLines, RelationshipLabel label) {
+        for(Triple<String, Feature, Relationship> parent : getRelationshipsOfLabel(label)) {
+            if(((NPC) parent.getMiddle()).sharesBloodLineWith(bloodLines)) { return true; }
+        }
+        return false;
+    }
+
+    /**
+     * Adds the Family Relationship Triples of the given NPC to the given ArrayList.
+     * @param npc The NPC to get the Family Relationships of.
+     * @param familyRelationships The ArrayList to add to.
+     * @param immediateFamily If true, adds Parents, Children and Siblings, otherwise only Children.
+     */
+    private static void addFamilyRelationships(NPC npc, ArrayList<Triple<String, Feature, Relationship>> familyRelationships,
+                                               boolean immediateFamily) {
+        if(immediateFamily) {
+            familyRelationships.addAll(npc.getRelationshipsOfLabel(RelationshipLabel.MOTHER));
+            familyRelationships.addAll(npc.getRelationshipsOfLabel(RelationshipLabel.FATHER));
+            familyRelationships.addAll(npc.getRelationshipsOfLabel(RelationshipLabel.PARENT));
+            familyRelationships.addAll(npc.getRelationshipsOfLabel(RelationshipLabel.CHILD));
+            familyRelationships.addAll(npc.getRelationshipsOfLabel(RelationshipLabel.SIBLING));
+        } else {
+            familyRelationships.addAll(npc.getRelationshipsOfLabel(RelationshipLabel.CHILD));
+        }
+    }
+
     /**
      * Checks if this NPC has two Parents and returns the opposite of the one given,
      * providing that is a Parent of this NPC. Otherwise, returns null.
@@ -313,8 +420,7 @@ public class NPC extends Feature {
      * @return Boolean of whether this NPC has a male Parent.
      */
     public boolean hasFather() {
-        return relationships.stream()
-                .anyMatch(relationship -> relationship.getLeft().equals("father"));
+        return hasRelationship(RelationshipLabel.FATHER);
     }
 
     /**
@@ -322,8 +428,7 @@ public class NPC extends Feature {
      * @return Boolean of whether this NPC has a female Parent.
      */
     public boolean hasMother() {
-        return relationships.stream()
-                .anyMatch(relationship -> relationship.getLeft().equals("mother"));
+        return hasRelationship(RelationshipLabel.MOTHER);
     }
 
     /**
@@ -331,9 +436,8 @@ public class NPC extends Feature {
      * @return The amount of Parents this NPC has.
      */
     public int numberOfParents() {
-        return Math.toIntExact(relationships.stream()
-                .filter(relationship ->
-                        relationship.getLeft().matches("mother|father|parent")).count());
+        return numberOfRelationships(RelationshipLabel.MOTHER) + numberOfRelationships(RelationshipLabel.FATHER)
+                + numberOfRelationships(RelationshipLabel.PARENT);
     }
 
     /**
@@ -341,9 +445,7 @@ public class NPC extends Feature {
      * @return The amount of Children this NPC has.
      */
     public int numberOfChildren() {
-        long number = relationships.stream()
-                .filter(relationship -> relationship.getLeft().equals("child")).count();
-        return Math.toIntExact(number);
+        return numberOfRelationships(RelationshipLabel.CHILD);
     }
 
     /**
@@ -351,9 +453,7 @@ public class NPC extends Feature {
      * @return The amount of Siblings this NPC has.
      */
     public int numberOfSiblings() {
-        long number = relationships.stream()
-                .filter(relationship -> relationship.getLeft().equals("sibling")).count();
-        return Math.toIntExact(number);
+        return numberOfRelationships(RelationshipLabel.SIBLING);
     }
 
     /**
@@ -361,8 +461,7 @@ public class NPC extends Feature {
      * @return Boolean of whether this NPC has a place of Residence.
      */
     public boolean hasResidence() {
-        return relationships.stream()
-                .anyMatch(relationship -> relationship.getLeft().equals("residence"));
+        return hasRelationship(RelationshipLabel.RESIDENCE);
     }
 
     /**
@@ -370,8 +469,7 @@ public class NPC extends Feature {
      * @return Boolean of whether this NPC has a Partner.
      */
     public boolean hasPartner() {
-        return relationships.stream()
-                .anyMatch(relationship -> relationship.getLeft().equals("partner"));
+        return hasRelationship(RelationshipLabel.PARTNER);
     }
 
     /**
@@ -391,7 +489,9 @@ public class NPC extends Feature {
      * @return Boolean of whether this NPC is a blood relative of the given NPC.
      */
     public boolean isFamilyMemberOf(NPC npc) {
-        return getFamilyMembers().contains(npc);
+        if(npc == this) { return false; }
+        // Only the ancestors of each NPC are visited, rather than the whole Family, however large it has grown.
+        return npc.sharesBloodLineWith(getBloodLines());
     }
 
     /**
@@ -400,9 +500,7 @@ public class NPC extends Feature {
      * @return Boolean of whether this NPC is the Partner of the given NPC.
      */
     public boolean isPartnerOf(NPC npc) {
-        return relationships.stream()
-                .filter(relationship -> relationship.getMiddle() == npc)
-                .anyMatch(relationship -> relationship.getLeft().equals("partner"));
+        return hasRelationshipWith(npc, RelationshipLabel.PARTNER);
     }
 
     /**
@@ -411,9 +509,7 @@ public class NPC extends Feature {
      * @return Boolean of whether this NPC is not the Parent of the given NPC.
      */
     public boolean isNotParentOf(NPC npc) {
-        return relationships.stream()
-                .filter(relationship -> relationship.getMiddle() == npc)
-                .noneMatch(relationship -> relationship.getLeft().equals("child"));
+        return !hasRelationshipWith(npc, RelationshipLabel.CHILD);
     }
 
     /**
@@ -422,9 +518,8 @@ public class NPC extends Feature {
      * @return Boolean of whether this NPC is not a Child of the given NPC.
      */
     public boolean isNotChildOf(NPC npc) {
-        return relationships.stream()
-                .filter(relationship -> relationship.getMiddle() == npc)
-                .noneMatch(relationship -> relationship.getLeft().matches("mother|father|parent"));
+        return !hasRelationshipWith(npc, RelationshipLabel.MOTHER) && !hasRelationshipWith(npc, RelationshipLabel.FATHER)
+                && !hasRelationshipWith(npc, RelationshipLabel.PARENT);
     }
 
     /**
@@ -433,9 +528,7 @@ public class NPC extends Feature {
      * @return Boolean of whether this NPC is not a Sibling of the given NPC.
      */
     public boolean isNotSiblingOf(NPC npc) {
-        return relationships.stream()
-                .filter(relationship -> relationship.getMiddle() == npc)
-                .noneMatch(relationship -> relationship.getLeft().equals("sibling"));
+        return !hasRelationshipWith(npc, RelationshipLabel.SIBLING);
     }
 
     /**
@@ -443,8 +536,7 @@ public class NPC extends Feature {
      * @return Boolean of whether this NPC is a Ruler of a Settlement.
      */
     public boolean isARuler() {
-        return relationships.stream()
-                .anyMatch(relationship -> relationship.getLeft().equals("rules"));
+        return hasRelationship(RelationshipLabel.RULES);
     }
 
     /**
@@ -453,9 +545,7 @@ public class NPC extends Feature {
      * @return Boolean of whether this NPC is the Ruler of the given Settlement.
      */
     public boolean isRulerOf(Settlement settlement) {
-        return relationships.stream()
-                .filter(relationship -> relationship.getMiddle() == settlement)
-                .anyMatch(relationship -> relationship.getLeft().equals("rules"));
+        return hasRelationshipWith(settlement, RelationshipLabel.RULES);
     }
 
     /**
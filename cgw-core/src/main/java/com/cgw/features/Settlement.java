@@ -4,10 +4,9 @@ import com.cgw.generators.FeatureManager;
 import org.apache.commons.lang3.tuple.Triple;
 import com.cgw.relationships.Predicate;
 import com.cgw.relationships.Relationship;
+import com.cgw.relationships.RelationshipLabel;
 
 import java.util.ArrayList;
-import java.util.Objects;
-import java.util.stream.Collectors;
 
 /**
  * The Settlement Feature of the World. These are populated places of Residence.
@@ -39,7 +38,7 @@ public class Settlement extends Feature {
      * @return The ArrayList of Predicates that can be assigned to this Settlement.
      */
     public ArrayList<Predicate> filterSubjectPredicates(ArrayList<Predicate> predicates) {
-        return FeatureManager.getFeatureManager().filterSettlementSubjectPredicates(this, predicates);
+        return FeatureManager.filterSettlementSubjectPredicates(this, predicates);
     }
 
     /* Relationship Getters */
@@ -49,10 +48,7 @@ public class Settlement extends Feature {
      * @return An ArrayList of the Settlements that this Settlement has a Trading Relationship with.
      */
     public ArrayList<Settlement> getTradingSettlements() {
-        return relationships.stream()
-                .filter(relationship -> relationship.getLeft().equals("trades"))
-                .map(relationship -> (Settlement) relationship.getMiddle())
-                .collect(Collectors.toCollection(ArrayList::new));
+        return getSettlementsOfLabel(RelationshipLabel.TRADES);
     }
 
     /**
@@ -60,10 +56,20 @@ public class Settlement extends Feature {
      * @return An ArrayList of the Settlements that this Settlement has a Rival Relationship with.
      */
     public ArrayList<Settlement> getRivalSettlements() {
-        return relationships.stream()
-                .filter(relationship -> relationship.getLeft().equals("rival"))
-                .map(relationship -> (Settlement) relationship.getMiddle())
-                .collect(Collectors.toCollection(ArrayList::new));
+        return getSettlementsOfLabel(RelationshipLabel.RIVAL);
+    }
+
+    /**
+     * Returns the Settlements of each Relationship with the given Label.
+     * @param label The Label of the Relationships to get the Settlements of.
+     * @return An ArrayList of the Settlements.
+     */
+    private ArrayList<Settlement> getSettlementsOfLabel(RelationshipLabel label) {
+        ArrayList<Settlement> settlements = new ArrayList<>(numberOfRelationships(label));
+        for(Triple<String, Feature, Relationship> relationship : getRelationshipsOfLabel(label)) {
+            settlements.add((Settlement) relationship.getMiddle());
+        }
+        return settlements;
     }
 
     /* Relationship Checkers */
@@ -73,8 +79,7 @@ public class Settlement extends Feature {
      * @return Boolean of whether this Settlement has an NPC Ruler.
      */
     public boolean hasRuler() {
-        return relationships.stream()
-                .anyMatch(relationship -> relationship.getLeft().matches("ruler"));
+        return hasRelationship(RelationshipLabel.RULER);
     }
 
     /**
@@ -82,9 +87,7 @@ public class Settlement extends Feature {
      * @return The amount of NPC residents in this Settlement.
      */
     public int numberOfResidents() {
-        long number = relationships.stream()
-                .filter(relationship -> relationship.getLeft().equals("resident")).count();
-        return Math.toIntExact(number);
+        return numberOfRelationships(RelationshipLabel.RESIDENT);
     }
 
     /**
@@ -92,9 +95,7 @@ public class Settlement extends Feature {
      * @return The amount of Settlements of which this Settlement Trades with.
      */
     public int numberOfTradingSettlements() {
-        long number = relationships.stream()
-                .filter(relationship -> relationship.getLeft().equals("trades")).count();
-        return Math.toIntExact(number);
+        return numberOfRelationships(RelationshipLabel.TRADES);
     }
 
     /**
@@ -102,9 +103,7 @@ public class Settlement extends Feature {
      * @return The amount of Settlements of which this Settlement is a Rival of.
      */
     public int numberOfRivalSettlements() {
-        long number = relationships.stream()
-                .filter(relationship -> relationship.getLeft().equals("rival")).count();
-        return Math.toIntExact(number);
+        return numberOfRelationships(RelationshipLabel.RIVAL);
     }
 
     /**
@@ -113,12 +112,10 @@ public class Settlement extends Feature {
      * @return String value of their Relationship, or Null.
      */
     public String getTradeOrRival(Settlement settlement) {
-        Triple<String, Feature, Relationship> settlementRelationship = relationships.stream()
-                .filter(relationship -> relationship.getMiddle() == settlement)
-                .filter(relationship -> relationship.getLeft().matches("trades|rival"))
-                .findFirst().orElse(null);
-        if(Objects.nonNull(settlementRelationship)) {
-            return settlementRelationship.getLeft();
+        if(hasRelationshipWith(settlement, RelationshipLabel.TRADES)) {
+            return RelationshipLabel.TRADES.toString();
+        } else if(hasRelationshipWith(settlement, RelationshipLabel.RIVAL)) {
+            return RelationshipLabel.RIVAL.toString();
         } else { return null; }
     }
 
@@ -127,8 +124,7 @@ public class Settlement extends Feature {
      * @return Boolean of whether this Settlement has reached the maximum number of Residents.
      */
     public boolean hasReachedMaxResidents() {
-        return relationships.stream()
-                .filter(relationship -> relationship.getLeft().equals("resident")).count() >= maxResidents;
+        return numberOfResidents() >= maxResidents;
     }
 
     /**
@@ -137,9 +133,7 @@ public class Settlement extends Feature {
      * @return Boolean of whether this Settlement is the Residence for the given NPC.
      */
     public boolean isResidenceOf(NPC npc) {
-        return relationships.stream()
-                .filter(relationship -> relationship.getMiddle() == npc)
-                .anyMatch(relationship -> relationship.getLeft().equals("resident"));
+        return hasRelationshipWith(npc, RelationshipLabel.RESIDENT);
     }
 
     /* Getters and Setters */
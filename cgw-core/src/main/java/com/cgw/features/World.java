@@ -0,0 +1,435 @@
+package com.cgw.features;
+
+import com.cgw.relationships.Predicate;
+import org.jetbrains.annotations.NotNull;
+import com.cgw.relationships.Relationship;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * The World Model Class, which extends Features for use in the JavaFX TreeView.
+ * Contains the World's name, all Features within it,
+ * all fully completed Relationships, and those waiting to assign a second Feature.
+ */
+public class World extends Feature{
+
+    // Features are never removed, so are kept in an ArrayList for random access, with a HashSet for checking
+    // whether one is already saved. Relationships can be removed, so are kept in insertion ordered Sets.
+    private final ArrayList<Feature> features;
+    private final HashSet<Feature> savedFeatures;
+    private final LinkedHashSet<Relationship> relationships;
+    private final LinkedHashSet<Relationship> unfinishedRelationships;
+
+    // Features of each subclass in the order they were saved, so they don't need filtering from all Features.
+    private final HashMap<Class<? extends Feature>, ArrayList<Feature>> featuresByClass;
+
+    // NPCs with more than two Family Members, kept up to date as Family Relationships are saved or removed.
+    private final HashSet<NPC> npcsWithMoreThanTwoFamilyMembers;
+
+    // Pools of Features that could be chosen as the Object of certain Relationships,
+    // kept up to date as Features and Relationships are saved so they don't need filtering each time.
+    private final FeaturePool<NPC> npcsWithoutResidence;
+    private final FeaturePool<NPC> adultsWithoutPartner;
+    private final FeaturePool<Settlement> settlementsBelowMaxResidents;
+    private final FeaturePool<Settlement> settlementsWithoutRuler;
+
+    private long seed;  // The Seed the World was Generated from, so it can be Generated again.
+
+    /**
+     * Constructor of the World, creating all the Collections and Pools.
+     */
+    public World() {
+        features = new ArrayList<>();
+        savedFeatures = new HashSet<>();
+        relationships = new LinkedHashSet<>();
+        unfinishedRelationships = new LinkedHashSet<>();
+        featuresByClass = new HashMap<>();
+        // NPCs and Settlements have their lists from the start, so any view of them updates as they are saved.
+        featuresByClass.put(NPC.class, new ArrayList<>());
+        featuresByClass.put(Settlement.class, new ArrayList<>());
+
+        npcsWithoutResidence = new FeaturePool<>();
+        adultsWithoutPartner = new FeaturePool<>();
+        settlementsBelowMaxResidents = new FeaturePool<>();
+        settlementsWithoutRuler = new FeaturePool<>();
+
+        npcsWithMoreThanTwoFamilyMembers = new HashSet<>();
+    }
+
+    /**
+     * Returns Null as World is not a Feature of the World, but extends Feature for JavaFX TreeView functionality.
+     * @param predicates The list of Predicates to filter.
+     * @return Null.
+     */
+    @Override
+    public ArrayList<Predicate> filterSubjectPredicates(ArrayList<Predicate> predicates) {
+        return null;
+    }
+
+    /**
+     * Passes each Feature to the method to add to World Features.
+     * @param newFeatures ArrayList of the new Features to be added to the World.
+     */
+    public void saveFeatures(@NotNull ArrayList<Feature> newFeatures) {
+        for(Feature newFeature: newFeatures) {
+            saveFeature(newFeature);
+        }
+    }
+
+    /**
+     * Adds individual Feature to the World Features, if not already there.
+     * @param feature Feature to be added to the World.
+     */
+    public void saveFeature(Feature feature) {
+        if(savedFeatures.add(feature)) {
+            features.add(feature);
+            featuresByClass.computeIfAbsent(feature.getSubClass(), subClass -> new ArrayList<>()).add(feature);
+            updateCandidatePools(feature);
+        }
+    }
+
+    /**
+     * Passes Relationship to the add Relationship method and calls its method to
+     * store the Relationship in both Features as a Triple Data Structure.
+     * @param relationship The Relationship to be saved.
+     */
+    public void saveRelationship(Relationship relationship) {
+        addRelationship(relationship);
+        relationship.storeRelationshipInFeatures();
+        for(Feature feature : relationship.getBothFeatures()) {
+            updateCandidatePools(feature);
+        }
+        if(relationship.getPredicateAtoB().getLabel().isFamily()) {
+            updateFamilyCounts(relationship, false);
+        }
+    }
+
+    /**
+     * Saves many completed Relationships at once, such as when reading a saved World back.
+     * Rather than updating the Pools and Family counts after each Relationship, each Feature of the Relationships is
+     * checked once after all are stored, and if any are Family Relationships every NPC's Family Members are counted
+     * once, which ends the same as saving them one at a time but is far faster for large Worlds.
+     * @param newRelationships The completed Relationships to be saved, in order.
+     */
+    public void saveRelationships(@NotNull List<Relationship> newRelationships) {
+        HashSet<Feature> changedFeatures = new HashSet<>();
+        boolean familyChanged = false;
+        for(Relationship relationship : newRelationships) {
+            addRelationship(relationship);
+            relationship.storeRelationshipInFeatures();
+            Collections.addAll(changedFeatures, relationship.getBothFeatures());
+            familyChanged |= relationship.getPredicateAtoB().getLabel().isFamily();
+        }
+        for(Feature feature : changedFeatures) {
+            updateCandidatePools(feature);
+        }
+        if(familyChanged) {
+            for(NPC npc : getAllNPCs()) {
+                if(npc.hasMoreThanTwoFamilyMembers()) {
+                    npcsWithMoreThanTwoFamilyMembers.add(npc);
+                } else {
+                    npcsWithMoreThanTwoFamilyMembers.remove(npc);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes a completed Relationship from the World, after it has been removed from both its Features.
+     * @param relationship The Relationship to be removed.
+     */
+    @Override
+    public void removeRelationship(Relationship relationship) {
+        relationships.remove(relationship);
+        for(Feature feature : relationship.getBothFeatures()) {
+            updateCandidatePools(feature);
+        }
+        if(relationship.getPredicateAtoB().getLabel().isFamily()) {
+            updateFamilyCounts(relationship, true);
+        }
+    }
+
+    /**
+     * Adds or removes the Feature from each Pool, depending on whether it currently meets that Pool's condition.
+     * @param feature The Feature whose Relationships or attributes have changed.
+     */
+    private void updateCandidatePools(Feature feature) {
+        if(feature.getSubClass() == NPC.class) {
+            NPC npc = (NPC) feature;
+            npcsWithoutResidence.update(npc, !npc.hasResidence());
+            adultsWithoutPartner.update(npc, !npc.isNotAdult() && !npc.hasPartner());
+        } else if(feature.getSubClass() == Settlement.class) {
+            Settlement settlement = (Settlement) feature;
+            settlementsBelowMaxResidents.update(settlement, !settlement.hasReachedMaxResidents());
+            settlementsWithoutRuler.update(settlement, !settlement.hasRuler());
+        }
+    }
+
+    /**
+     * Rechecks which NPCs near a changed Family Relationship have more than two Family Members.
+     * When one is added, only NPCs with two or fewer Family Members need checking, and any of their Family Members are
+     * at most two Family Relationships away, so only NPCs that close to either NPC of the Relationship are checked.
+     * When one is removed, every NPC still connected to either NPC by Family Relationships is checked.
+     * @param relationship The Family Relationship that was saved or removed.
+     * @param removed Whether the Relationship was removed rather than saved.
+     */
+    private void updateFamilyCounts(Relationship relationship, boolean removed) {
+        int maxDistance = removed ? Integer.MAX_VALUE : 2;
+        HashSet<NPC> reached = new HashSet<>();
+        ArrayList<NPC> toCheck = new ArrayList<>();
+        for(Feature feature : relationship.getBothFeatures()) {
+            if(reached.add((NPC) feature)) { toCheck.add((NPC) feature); }
+        }
+        // Walks outwards from both NPCs one Family Relationship at a time, up to the maximum distance.
+        int distanceStart = 0;
+        for(int distance = 0; distance < maxDistance && distanceStart < toCheck.size(); distance++) {
+            int distanceEnd = toCheck.size();
+            for(int index = distanceStart; index < distanceEnd; index++) {
+                NPC npc = toCheck.get(index);
+                addUnreached(npc.getParents(), reached, toCheck);
+                addUnreached(npc.getSiblings(), reached, toCheck);
+                addUnreached(npc.getChildren(), reached, toCheck);
+            }
+            distanceStart = distanceEnd;
+        }
+        for(NPC npc : toCheck) {
+            // Saving a Relationship can only add Family Members, so those already counted do not need checking again.
+            if(removed || !npcsWithMoreThanTwoFamilyMembers.contains(npc)) {
+                if(npc.hasMoreThanTwoFamilyMembers()) {
+                    npcsWithMoreThanTwoFamilyMembers.add(npc);
+                } else {
+                    npcsWithMoreThanTwoFamilyMembers.remove(npc);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds each NPC not yet reached to the list of those to check.
+     * @param npcs The NPCs to add.
+     * @param reached The NPCs already reached.
+     * @param toCheck The list of NPCs to check.
+     */
+    private static void addUnreached(ArrayList<NPC> npcs, HashSet<NPC> reached, ArrayList<NPC> toCheck) {
+        for(NPC npc : npcs) {
+            if(reached.add(npc)) { toCheck.add(npc); }
+        }
+    }
+
+    /**
+     * Adds individual Relationship to the World Features , if not already there.
+     * @param relationship The Relationship to be added to the World.
+     */
+    public void addRelationship(Relationship relationship) {
+        relationships.add(relationship);
+    }
+
+    /**
+     * Passes each unfinished Relationship to the add unfinished Relationship method.
+     * This is when no suitable Features were found and the generator chose not to create a new feature.
+     * @param relationships ArrayList of unfinished Relationships to be added to the World.
+     */
+    public void saveUnfinishedRelationships(@NotNull ArrayList<Relationship> relationships) {
+        for(Relationship relationship : relationships) {
+            addUnfinishedRelationship(relationship);
+        }
+    }
+
+    /**
+     * Adds individual unfinished Relationship to the World, if not already there.
+     * @param relationship The unfinished Relationship to be added.
+     */
+    public void addUnfinishedRelationship(Relationship relationship) {
+        unfinishedRelationships.add(relationship);
+    }
+
+    /**
+     * Removes unfinished Relationship from the World if its internal iteration timer runs out.
+     * @param relationship Unfinished Relationship to be removed.
+     */
+    public void removeUnfinishedRelationship(Relationship relationship) {
+        unfinishedRelationships.remove(relationship);
+    }
+
+    /**
+     * Goes through all Relationships in unfinished Relationships, to check if any have been completed,
+     * and removes those that have been.
+     */
+    public void clearCompletedRelationshipsFromUnfinished() {
+        unfinishedRelationships.removeIf(Relationship::isCompleted);
+    }
+
+    /**
+     * Removes all unfinished Relationships from the World, such as once the Stopping Criteria has been met.
+     */
+    public void clearUnfinishedRelationships() {
+        unfinishedRelationships.clear();
+    }
+
+    /* Getters */
+
+    /**
+     * Returns all Features of the World.
+     * @return ArrayList of Features of the World.
+     */
+    public ArrayList<Feature> getFeatures() {
+        return features;
+    }
+
+    /**
+     * Returns all Features of the World of the given subclass. Usually done through passing a generic Features class.
+     * @param specificClass The subclass to get.
+     * @param <T> The Feature subclass.
+     * @return Read-only List of all Features of the World of the given subclass, which updates as Features are saved,
+     * or an empty List if none of any other subclass have been saved yet.
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Feature> List<T> getAllOfSpecificFeature(Class<T> specificClass) {
+        // Only Features of the given subclass are ever added to its list, so it can be viewed as a list of them.
+        ArrayList<Feature> specificFeatures = featuresByClass.get(specificClass);
+        if (specificFeatures == null) {
+            return Collections.emptyList();
+        }
+        return (List<T>) Collections.unmodifiableList(specificFeatures);
+    }
+
+    /**
+     * Specifically returns all NPCs within this World's Features.
+     * @return Read-only List of all the NPCs of the World.
+     */
+    public List<NPC> getAllNPCs() {
+        return getAllOfSpecificFeature(NPC.class);
+    }
+
+    /**
+     * Specifically returns all Settlements within this World's Features.
+     * @return Read-only List of all the Settlements of the world.
+     */
+    public List<Settlement> getAllSettlements() {
+        return getAllOfSpecificFeature(Settlement.class);
+    }
+
+    /**
+     * Returns the amount of Features of the given subclass within this World's Features.
+     * @param specificClass The subclass to count.
+     * @return The amount of Features of the given subclass.
+     */
+    public int numberOfSpecificFeature(Class<? extends Feature> specificClass) {
+        ArrayList<Feature> specificFeatures = featuresByClass.get(specificClass);
+        return specificFeatures == null ? 0 : specificFeatures.size();
+    }
+
+    /**
+     * Returns the amount of NPCs within this World's Features.
+     * @return The amount of NPCs of the World.
+     */
+    public int numberOfNPCs() {
+        return numberOfSpecificFeature(NPC.class);
+    }
+
+    /**
+     * Returns the amount of Settlements within this World's Features.
+     * @return The amount of Settlements of the World.
+     */
+    public int numberOfSettlements() {
+        return numberOfSpecificFeature(Settlement.class);
+    }
+
+    /**
+     * Returns the amount of NPCs that have a place of Residence, from the Pool of those without.
+     * @return The amount of NPCs with a Residence.
+     */
+    public int numberOfNPCsWithResidence() {
+        return numberOfNPCs() - npcsWithoutResidence.size();
+    }
+
+    /**
+     * Returns the amount of NPCs that have more than two Family Members.
+     * @return The amount of NPCs with more than two Family Members.
+     */
+    public int numberOfNPCsWithMoreThanTwoFamilyMembers() {
+        return npcsWithMoreThanTwoFamilyMembers.size();
+    }
+
+    /**
+     * Returns the amount of Settlements that have a Ruler, from the Pool of those without.
+     * @return The amount of Settlements with a Ruler.
+     */
+    public int numberOfSettlementsWithRuler() {
+        return numberOfSettlements() - settlementsWithoutRuler.size();
+    }
+
+    /**
+     * Returns the amount of completed Relationships of the World, without copying them.
+     * @return The amount of completed Relationships.
+     */
+    public int numberOfRelationships() {
+        return relationships.size();
+    }
+
+    /**
+     * Returns all completed Relationships of the World, in the order they were saved.
+     * @return Read-only List of all completed Relationships, which does not change as Relationships are saved.
+     */
+    public List<Relationship> getRelationships() {
+        return List.copyOf(relationships);
+    }
+
+    /**
+     * Returns a read-only view of all completed Relationships of the World, in the order they were saved, without
+     * copying them, such as for writing a large World to a file. The view changes as Relationships are saved, so
+     * it must not be iterated while the World is still being Generated.
+     * @return Read-only Collection of all completed Relationships.
+     */
+    public Collection<Relationship> getRelationshipsView() {
+        return Collections.unmodifiableCollection(relationships);
+    }
+
+    /**
+     * Returns all unfinished Relationships of the World, in the order they were saved.
+     * @return Read-only List of all unfinished Relationships, which does not change as Relationships are saved.
+     */
+    public List<Relationship> getUnfinishedRelationships() { return List.copyOf(unfinishedRelationships); }
+
+    /**
+     * Returns the Pool of NPCs that do not have a place of Residence.
+     * @return Feature Pool of NPCs without a Residence.
+     */
+    public FeaturePool<NPC> getNPCsWithoutResidence() { return npcsWithoutResidence; }
+
+    /**
+     * Returns the Pool of Adult or Elderly NPCs that do not have a Partner.
+     * @return Feature Pool of Adults without a Partner.
+     */
+    public FeaturePool<NPC> getAdultsWithoutPartner() { return adultsWithoutPartner; }
+
+    /**
+     * Returns the Pool of Settlements that have not reached their maximum Residents.
+     * @return Feature Pool of Settlements below their maximum Residents.
+     */
+    public FeaturePool<Settlement> getSettlementsBelowMaxResidents() { return settlementsBelowMaxResidents; }
+
+    /**
+     * Returns the Pool of Settlements that do not have a Ruler.
+     * @return Feature Pool of Settlements without a Ruler.
+     */
+    public FeaturePool<Settlement> getSettlementsWithoutRuler() { return settlementsWithoutRuler; }
+
+    /**
+     * Returns the Seed the World was Generated from.
+     * @return The Seed of the World.
+     */
+    public long getSeed() { return seed; }
+
+    /**
+     * Sets the Seed the World was Generated from.
+     * @param seed The Seed of the World.
+     */
+    public void setSeed(long seed) { this.seed = seed; }
+}
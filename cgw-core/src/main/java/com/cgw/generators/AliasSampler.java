@@ -0,0 +1,105 @@
+package com.cgw.generators;
+
+import java.util.ArrayDeque;
+import java.util.random.RandomGenerator;
+
+/**
+ * A Weighted Sampler for weights that do not change, such as the chances of each Gender or Age Group.
+ * Uses Vose's Alias Method, which sets up a table once so every index is then chosen in constant time.
+ * The table splits the weights into columns of equal height, each holding at most two indexes;
+ * its own index, and an alias that makes up the rest of the column.
+ * @author Luke Burston
+ * @author lb800@kent.ac.uk
+ * @version 0.1
+ * @since 0.1
+ */
+public class AliasSampler implements WeightedSampler {
+
+    private final double[] probabilities;   // Chance of each column choosing its own index rather than its alias.
+    private final int[] aliases;            // The other index held within each column.
+
+    /**
+     * Constructor for the Alias Sampler, setting up the table from the given weights.
+     * @param weights The weighting of each index, which must not be negative and must not all be zero.
+     */
+    public AliasSampler(double... weights) {
+        int size = weights.length;
+        double weightSum = 0;
+        for(double weight : weights) {
+            if(weight < 0 || Double.isNaN(weight) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("Weights must be finite and not negative, was " + weight);
+            }
+            weightSum += weight;
+        }
+        if(weightSum <= 0) {
+            throw new IllegalArgumentException("At least one weight must be above zero");
+        }
+        probabilities = new double[size];
+        aliases = new int[size];
+
+        // Scales each weight so the average is 1, then sorts them into those below and above the average.
+        double[] scaled = new double[size];
+        ArrayDeque<Integer> small = new ArrayDeque<>();
+        ArrayDeque<Integer> large = new ArrayDeque<>();
+        for(int index = 0; index < size; index++) {
+            scaled[index] = weights[index] * size / weightSum;
+            if(scaled[index] < 1) { small.push(index); }
+            else { large.push(index); }
+        }
+
+        // Fills each column of a small weight with part of a large weight, which then may become small itself.
+        while(!small.isEmpty() && !large.isEmpty()) {
+            int smallIndex = small.pop();
+            int largeIndex = large.pop();
+            probabilities[smallIndex] = scaled[smallIndex];
+            aliases[smallIndex] = largeIndex;
+            scaled[largeIndex] = (scaled[largeIndex] + scaled[smallIndex]) - 1;
+            if(scaled[largeIndex] < 1) { small.push(largeIndex); }
+            else { large.push(largeIndex); }
+        }
+        // Any left over are full columns, which would be exactly 1 if not for rounding errors.
+        while(!large.isEmpty()) { probabilities[large.pop()] = 1; }
+        while(!small.isEmpty()) { probabilities[small.pop()] = 1; }
+    }
+
+    /**
+     * Constructor for the Alias Sampler from whole number weights.
+     * @param weights The weighting of each index, which must not be negative and must not all be zero.
+     */
+    public AliasSampler(int... weights) {
+        this(toDoubles(weights));
+    }
+
+    /**
+     * Converts whole number weights to doubles.
+     * @param weights The whole number weights.
+     * @return The weights as doubles.
+     */
+    private static double[] toDoubles(int[] weights) {
+        double[] doubles = new double[weights.length];
+        for(int index = 0; index < weights.length; index++) {
+            doubles[index] = weights[index];
+        }
+        return doubles;
+    }
+
+    /**
+     * Randomly chooses a column, then either its own index or its alias.
+     * @param random The Random Generator to choose with.
+     * @return The chosen index.
+     */
+    @Override
+    public int sample(RandomGenerator random) {
+        int column = random.nextInt(probabilities.length);
+        return random.nextDouble() < probabilities[column] ? column : aliases[column];
+    }
+
+    /**
+     * Returns the amount of weights that can be chosen from.
+     * @return The amount of weights.
+     */
+    @Override
+    public int size() {
+        return probabilities.length;
+    }
+}
@@ -0,0 +1,93 @@
+package com.cgw.generators;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * A Weighted Sampler for weights that change each time, such as the Predicates a Feature can currently have.
+ * The weights are added one at a time as a running total, and one index is chosen by searching the totals.
+ * The same Sampler is cleared and reused, so no new arrays are needed once it has grown to the largest size used.
+ * @author Luke Burston
+ * @author lb800@kent.ac.uk
+ * @version 0.1
+ * @since 0.1
+ */
+public class CumulativeSampler implements WeightedSampler {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] runningTotals;   // Sum of every weight up to and including each index.
+    private int size;
+
+    /**
+     * Constructor for the Cumulative Sampler, with no weights.
+     */
+    public CumulativeSampler() {
+        runningTotals = new long[INITIAL_CAPACITY];
+        size = 0;
+    }
+
+    /**
+     * Removes all weights, so the Sampler can be reused.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Adds the weight of the next index.
+     * @param weight The weighting of the index, which must not be negative.
+     */
+    public void add(int weight) {
+        if(weight < 0) {
+            throw new IllegalArgumentException("Weights must not be negative, was " + weight);
+        }
+        if(size == runningTotals.length) {
+            runningTotals = Arrays.copyOf(runningTotals, size * 2);
+        }
+        runningTotals[size] = total() + weight;
+        size++;
+    }
+
+    /**
+     * Returns the sum of all weights added.
+     * @return The total weight.
+     */
+    public long total() {
+        return size == 0 ? 0 : runningTotals[size - 1];
+    }
+
+    /**
+     * Randomly chooses an index, by finding the first running total above a random value below the total weight.
+     * If every weight is zero, the last index is chosen.
+     * @param random The Random Generator to choose with.
+     * @return The chosen index.
+     */
+    @Override
+    public int sample(RandomGenerator random) {
+        if(size == 0) {
+            throw new IllegalStateException("There are no weights to choose from");
+        }
+        long total = total();
+        if(total == 0) { return size - 1; }
+        long target = random.nextLong(total);
+        // Binary search for the first index whose running total is above the target.
+        int low = 0;
+        int high = size - 1;
+        while(low < high) {
+            int middle = (low + high) >>> 1;
+            if(runningTotals[middle] > target) { high = middle; }
+            else { low = middle + 1; }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the amount of weights that can be chosen from.
+     * @return The amount of weights.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+}
@@ -8,8 +8,10 @@ import com.cgw.features.World;
 import org.jetbrains.annotations.NotNull;
 import com.cgw.relationships.Predicate;
 import com.cgw.relationships.Relationship;
+import com.cgw.relationships.RelationshipLabel;
 
 import java.util.*;
+import java.util.random.RandomGenerator;
 import java.util.stream.Collectors;
 
 /**
@@ -22,16 +24,12 @@ import java.util.stream.Collectors;
  */
 public class FeatureManager {
 
-    // Singleton instance of itself.
-    private static FeatureManager featureManager = null;
-
-    // Singleton instances of Generators and Randomiser.
-    private static final RelationshipGenerator relationshipGenerator = RelationshipGenerator.getRelationshipGenerator();
-    private static final NPCGenerator npcGenerator = NPCGenerator.getNPCGenerator();
-    private static final SettlementGenerator settlementGenerator = SettlementGenerator.getSettlementGenerator();
-    private static final Random randNum = Randomiser.getRandom();
-
-    private World world;
+    // The Generation Context of the World, and its World and Feature Generators.
+    private final GenerationContext context;
+    private final World world;
+    private final NPCGenerator npcGenerator;
+    private final SettlementGenerator settlementGenerator;
+    private final RandomGenerator randNum;  // A Stream from the Seed of the World being Generated.
 
     /* NPC Relationship Limits */
     private static final int MAX_SIBLINGS = 5;
@@ -41,33 +39,35 @@ public class FeatureManager {
     private static final int MAX_TRADES = 6;
     private static final int MAX_RIVALS = 3;
 
+    // Random picks from a Pool before falling back to filtering the whole Pool.
+    private static final int POOL_PICK_ATTEMPTS = 8;
 
-    public static void main(String[] args) {
-
-    }
+    // Amount of candidate NPCs at which the Family checks are split across threads.
+    private int parallelFilterThreshold;
 
     /**
-     * Constructor for the Feature Manager.
+     * A Family check an NPC must pass to be kept as a candidate. Named apart from the Relationship Predicate.
      */
-    private FeatureManager() {}
+    private interface FamilyCheck {
+        boolean test(NPC npc);
+    }
+
+
+    public static void main(String[] args) {
 
-    /**
-     * Sets the current World.
-     * @param world World to be set.
-     */
-    public void setWorld(World world) {
-        this.world = world;
     }
 
     /**
-     * Returns this Manager, or creates a new one if it hasn't been set up yet.
-     * @return The Feature Manager Singleton
+     * Constructor for the Feature Manager of a World, using the Feature Manager Stream of its Context.
+     * @param context The Generation Context of the World, which must already have its Feature Generators.
      */
-    public static FeatureManager getFeatureManager() {
-        if (featureManager == null) {
-            featureManager = new FeatureManager();
-        }
-        return featureManager;
+    public FeatureManager(@NotNull GenerationContext context) {
+        this.context = context;
+        world = context.getWorld();
+        npcGenerator = context.getNPCGenerator();
+        settlementGenerator = context.getSettlementGenerator();
+        randNum = context.getRandomStreams().getStream(RandomStreams.Stream.FEATURE_MANAGER);
+        parallelFilterThreshold = context.getConfig().getParallelFilterThreshold();
     }
 
     /**
@@ -104,58 +104,57 @@ public class FeatureManager {
      * @param predicates ArrayList of Predicates to check for.
      * @return Filtered ArrayList of Predicates applicable to the NPC.
      */
-    public ArrayList<Predicate> filterNPCSubjectPredicates(NPC npc, ArrayList<Predicate> predicates) {
+    public static ArrayList<Predicate> filterNPCSubjectPredicates(NPC npc, ArrayList<Predicate> predicates) {
         // Creates the new ArrayList to be added to, and an Iterator to cycle through the original ArrayList.
         ArrayList<Predicate> filteredPredicates = new ArrayList<>(predicates);
         Iterator<Predicate> iterator = filteredPredicates.iterator();
         while (iterator.hasNext()) {
             Predicate predicate = iterator.next();
-            String predicateString = predicate.getPredicateString();
-            switch (predicateString) {
-                case "resident" -> {
-                    if (featureHasSameRelationship(npc, predicate.getOppositePredicateString())) {
+            switch (predicate.getLabel()) {
+                case RESIDENT -> {
+                    if (featureHasSameRelationship(npc, predicate.getOppositePredicate().getLabel())) {
                         iterator.remove();
                         // Removes if already a Resident.
                     }
                 }
-                case "ruler" -> {
+                case RULER -> {
                     if (npc.isNotAlive() || npc.isNotAdult() ||
-                            featureHasSameRelationship(npc, predicate.getOppositePredicateString())) {
+                            featureHasSameRelationship(npc, predicate.getOppositePredicate().getLabel())) {
                         iterator.remove();
                         // Removes if dead, not an adult, or already a Ruler.
                     }
                 }
-                case "partner" -> {
-                    if (npc.isNotAdult() || featureHasSameRelationship(npc, predicateString)) {
+                case PARTNER -> {
+                    if (npc.isNotAdult() || featureHasSameRelationship(npc, predicate.getLabel())) {
                         iterator.remove();
                         // Removes if not an adult, or already has a Partner.
                     }
                 }
-                case "parent" -> {
+                case PARENT -> {
                     if (npc.isNotAdult() || npc.numberOfChildren() >= MAX_CHILDREN) {
                         iterator.remove();
                         // Removes if not an adult, or if they have reached the Max number of Children.
                     }
                 }
-                case "child" -> {
+                case CHILD -> {
                     if (npc.hasBothParents()) {
                         iterator.remove();
                         // Removes if already has two Parents.
                     }
                 }
-                case "sibling" -> {
+                case SIBLING -> {
                     if (npc.numberOfSiblings() >= MAX_SIBLINGS) {
                         iterator.remove();
                         // Removes if they have reached the Max number of Siblings.
                     }
                 }
-                case "killed" -> {
+                case KILLED -> {
                     if (npc.isNotAdult() || npc.isNotAlive()) {
                         iterator.remove();
                         // Removes if not an adult, or already not alive.
                     }
                 }
-                case "killer" -> {
+                case KILLER -> {
                     if (npc.isNotAdult()) {
                         iterator.remove();
                         // Removes if not an adult.
@@ -174,13 +173,13 @@ public class FeatureManager {
      * @param npcs An ArrayList of NPCs to choose from.
      * @return Filtered ArrayList of compatible NPCs
      */
-    public ArrayList<NPC> filterNPCsByPredicate(@NotNull String predicate, Feature subjectFeature, ArrayList<NPC> npcs){
+    public ArrayList<NPC> filterNPCsByPredicate(@NotNull Predicate predicate, Feature subjectFeature, List<NPC> npcs){
         ArrayList<NPC> filteredNPCs = new ArrayList<>(npcs);
         Iterator<NPC> npcIterator = filteredNPCs.iterator();
 
         // Cycles and filters Features depending on what the Predicate is.
-        switch (predicate) {
-            case "resident" -> {
+        switch (predicate.getLabel()) {
+            case RESIDENT -> {
                 while (npcIterator.hasNext()) {
                     NPC npc = npcIterator.next();
                     if (npc.hasResidence()) {
@@ -189,7 +188,7 @@ public class FeatureManager {
                     }
                 }
             }
-            case "ruler" -> {
+            case RULER -> {
                 while(npcIterator.hasNext()) {
                     NPC npc = npcIterator.next();
                     if (npc.hasResidence() && !subjectFeature.equals(npc.getResidence())) {
@@ -198,69 +197,55 @@ public class FeatureManager {
                     }
                 }
             }
-            case "partner" -> {
+            case PARTNER -> {
                 NPC subjectNPC = (NPC) subjectFeature;
+                Set<NPC> subjectBloodLines = subjectNPC.getBloodLines();
                 while(npcIterator.hasNext()) {
                     NPC npc = npcIterator.next();
-                    if (npc == subjectNPC || npc.isNotAdult() || npc.hasPartner() || npc.isFamilyMemberOf(subjectNPC)) {
+                    if (npc == subjectNPC || npc.isNotAdult() || npc.hasPartner() || npc.sharesBloodLineWith(subjectBloodLines)) {
                         npcIterator.remove();
                         // Removes if itself, not an adult, already has a Partner, or is a blood relative of.
                     }
                 }
             }
-            case "parent" -> {
+            case PARENT -> {
                 NPC childNPC = (NPC) subjectFeature;
                 // Sets whether additional checks need to be made,
                 // depending on if subject Child already has another Parent.
-                boolean checkRace = false;
-                String race = "";
-                boolean checkGender = false;
-                char gender = '0';
-                boolean checkParentFamily = false;
-                NPC childNPCParent = null;
-                HashSet<NPC> childFamilyMembers = childNPC.getFamilyMembers();
-                if(childNPC.hasOnlyOneParent()) {
-                    childNPCParent = childNPC.getParents().get(0);
-                    race = childNPCParent.getRace();
-                    gender = childNPCParent.getGender();
-                    if (!childNPC.getRace().equals(race)) {
-                        checkRace = true;
-                        // If the other Parent is a different race to Child, the chosen NPC must be the same race.
-                    }
-                    if (gender != 'n') {
-                        checkGender = true;
-                        // If the other Parent has a binary gender, the chosen NPC must not be the same.
-                    }
-                    checkParentFamily = true;
-                    // Checks NPC is not a blood relative of other Parent.
-                }
-
-                while(npcIterator.hasNext()) {
-                    NPC npc = npcIterator.next();
-                    if (npc == childNPC || npc.isNotAdult() || !npc.isNotParentOf(childNPC) ||
-                            npc.numberOfChildren() >= MAX_CHILDREN || npc.isPartnerOf(childNPC) ||
-                            npc.notOldEnoughAgeGapForChild(childNPC.getAge(), getNPCRaceAdultAge(npc)) ||
-                            !compatibleFamilyParent(npc, childNPC, childFamilyMembers) ||
-                            (checkRace && !npc.getRace().equals(race)) || (checkGender && npc.getGender() == gender ||
-                            (checkParentFamily && childNPCParent.isFamilyMemberOf(npc)))) {
-                        npcIterator.remove();
-                        // Removes if they are the same, is not an adult, is already the Parent of,
-                        // they have max children, is the Child's Partner, wasn't an adult when Child born,
-                        // isn't a compatible Parent, if other Parent is different race they aren't the same as Child,
-                        // if other Parent is binary gender and is the same gender, if other Parent is blood relative.
-                    }
-                }
-            }
-            case "child" -> {
+                NPC childNPCParent = childNPC.hasOnlyOneParent() ? childNPC.getParents().get(0) : null;
+                boolean checkParentFamily = childNPCParent != null;
+                // Checks NPC is not a blood relative of other Parent.
+                String race = checkParentFamily ? childNPCParent.getRace() : "";
+                char gender = checkParentFamily ? childNPCParent.getGender() : '0';
+                boolean checkRace = checkParentFamily && !childNPC.getRace().equals(race);
+                // If the other Parent is a different race to Child, the chosen NPC must be the same race.
+                boolean checkGender = checkParentFamily && gender != 'n';
+                // If the other Parent has a binary gender, the chosen NPC must not be the same.
+                // Blood Lines are found once, rather than for each candidate.
+                Set<NPC> childBloodLines = childNPC.getBloodLines();
+                Set<NPC> childParentBloodLines = checkParentFamily ? childNPCParent.getBloodLines() : null;
+
+                filteredNPCs = filterFamilyCandidates(npcs, npc ->
+                        !(npc == childNPC || npc.isNotAdult() || !npc.isNotParentOf(childNPC) ||
+                        npc.numberOfChildren() >= MAX_CHILDREN || npc.isPartnerOf(childNPC) ||
+                        npc.notOldEnoughAgeGapForChild(childNPC.getAge(), getNPCRaceAdultAge(npc)) ||
+                        !compatibleFamilyParent(npc, childNPC, childBloodLines) ||
+                        (checkRace && !npc.getRace().equals(race)) || (checkGender && npc.getGender() == gender ||
+                        (checkParentFamily && npc.sharesBloodLineWith(childParentBloodLines)))));
+                // Removes if they are the same, is not an adult, is already the Parent of,
+                // they have max children, is the Child's Partner, wasn't an adult when Child born,
+                // isn't a compatible Parent, if other Parent is different race they aren't the same as Child,
+                // if other Parent is binary gender and is the same gender, if other Parent is blood relative.
+            }
+            case CHILD -> {
                 NPC parentNPC = (NPC) subjectFeature;
-                NPC parentNPCPartner = null;
                 boolean parentHasPartner = parentNPC.hasPartner();
-                if(parentHasPartner) {
-                    parentNPCPartner = parentNPC.getPartner();
-                }
+                NPC parentNPCPartner = parentHasPartner ? parentNPC.getPartner() : null;
                 char parentNPCGender = parentNPC.getGender();
-                while(npcIterator.hasNext()) {
-                    NPC npc = npcIterator.next();
+                // Blood Lines are found once, rather than for each candidate.
+                Set<NPC> parentBloodLines = parentNPC.getBloodLines();
+                Set<NPC> parentPartnerBloodLines = parentHasPartner ? parentNPCPartner.getBloodLines() : null;
+                filteredNPCs = filterFamilyCandidates(npcs, npc -> {
                     // Sets whether additional checks need to be made,
                     // depending on if Child already has one Parent.
                     boolean checkRace = false;
@@ -277,38 +262,34 @@ public class FeatureManager {
                         // Checks other Parent is not a blood relative of Parent.
                     }
 
-                    if(npc == parentNPC || npc.hasBothParents() ||
+                    return !(npc == parentNPC || npc.hasBothParents() ||
                             npc.isPartnerOf(parentNPC) || !parentNPC.isNotParentOf(npc) ||
                             parentNPC.notOldEnoughAgeGapForChild(npc.getAge(), getNPCRaceAdultAge(parentNPC)) ||
-                            !compatibleFamilyChild(npc, parentNPC, parentHasPartner, parentNPCPartner) ||
+                            !compatibleFamilyChild(npc, parentNPC, parentBloodLines, parentNPCPartner,
+                                    parentPartnerBloodLines) ||
                             (checkRace && !npc.getRace().equals(parentNPC.getRace())) ||
                             (checkGender && npcParentGender == parentNPCGender) ||
-                            (checkParentFamily && parentNPC.isFamilyMemberOf(npc.getParents().get(0)))) {
-                        npcIterator.remove();
-                        // Removes if the same, already has two Parents, is the Partner of, is already their Parent,
-                        // is not old enough, isn't a compatible family member, if other Parent of different race
-                        // they aren't the same, if other Parent has binary gender and is the same, if other Parent
-                        // a blood relative.
-                    }
-                }
-            }
-            case "sibling" -> {
+                            (checkParentFamily && npc.getParents().get(0).sharesBloodLineWith(parentBloodLines)));
+                    // Removes if the same, already has two Parents, is the Partner of, is already their Parent,
+                    // is not old enough, isn't a compatible family member, if other Parent of different race
+                    // they aren't the same, if other Parent has binary gender and is the same, if other Parent
+                    // a blood relative.
+                });
+            }
+            case SIBLING -> {
                 NPC subjectNPC = (NPC) subjectFeature;
                 // Gets the other Sibling's Parents and Siblings for checks
                 ArrayList<NPC> subjectNPCParents = new ArrayList<>(subjectNPC.getParents());
                 ArrayList<NPC> subjectNPCAndSiblings = new ArrayList<>(subjectNPC.getSiblings());
                 subjectNPCAndSiblings.add(subjectNPC);
-                while(npcIterator.hasNext()) {
-                    NPC npc = npcIterator.next();
-                    if(npc == subjectNPC || npc.isFamilyMemberOf(subjectNPC) || npc.isPartnerOf(subjectNPC) ||
-                            !compatibleFamilySiblings(npc, subjectNPCParents, subjectNPCAndSiblings)) {
-                        npcIterator.remove();
-                        // Removes if the same, is already a Family Member, is a Partner of,
-                        // or is not compatible family.
-                    }
-                }
-            }
-            case "killed" -> {
+                Set<NPC> subjectBloodLines = subjectNPC.getBloodLines();
+                filteredNPCs = filterFamilyCandidates(npcs, npc ->
+                        !(npc == subjectNPC || npc.sharesBloodLineWith(subjectBloodLines) || npc.isPartnerOf(subjectNPC) ||
+                        !compatibleFamilySiblings(npc, subjectNPCParents, subjectNPCAndSiblings)));
+                // Removes if the same, is already a Family Member, is a Partner of,
+                // or is not compatible family.
+            }
+            case KILLED -> {
                 while(npcIterator.hasNext()) {
                     NPC npc = npcIterator.next();
                     if (npc == subjectFeature || npc.isNotAdult() || npc.isNotAlive()) {
@@ -317,7 +298,7 @@ public class FeatureManager {
                     }
                 }
             }
-            case "killer" -> {
+            case KILLER -> {
                 while(npcIterator.hasNext()) {
                     NPC npc = npcIterator.next();
                     if (npc == subjectFeature || npc.isNotAdult()) {
@@ -330,6 +311,101 @@ public class FeatureManager {
         return filteredNPCs;
     }
 
+    /**
+     * Randomly chooses an NPC to be the Object of the given Relationship. For Predicates with a Pool kept by the World,
+     * picks from that Pool, otherwise filters all NPCs of the World by the Predicate.
+     * @param predicate The Predicate applied from the Object to the Subject.
+     * @param subjectFeature The Subject of the Relationship.
+     * @return The chosen NPC, or Null if no NPC is compatible.
+     */
+    public NPC chooseNPCByPredicate(@NotNull Predicate predicate, Feature subjectFeature) {
+        switch (predicate.getLabel()) {
+            case RESIDENT -> {
+                // Every NPC in the Pool is compatible.
+                return world.getNPCsWithoutResidence().getRandom(randNum);
+            }
+            case PARTNER -> {
+                // The Pool holds Adults without Partners, but they must also not be the Subject or a blood relative.
+                NPC subjectNPC = (NPC) subjectFeature;
+                FeaturePool<NPC> pool = world.getAdultsWithoutPartner();
+                // The Subject's Blood Lines are found once, rather than each pick's for every attempt.
+                Set<NPC> subjectBloodLines = subjectNPC.getBloodLines();
+                for (int attempt = 0; attempt < POOL_PICK_ATTEMPTS && !pool.isEmpty(); attempt++) {
+                    NPC npc = pool.getRandom(randNum);
+                    if (npc != subjectNPC && !npc.sharesBloodLineWith(subjectBloodLines)) {
+                        return npc;
+                    }
+                }
+                return chooseRandom(filterNPCsByPredicate(predicate, subjectFeature, pool.getFeatures()));
+            }
+            default -> {
+                return chooseRandom(filterNPCsByPredicate(predicate, subjectFeature, getNPCFeatures()));
+            }
+        }
+    }
+
+    /**
+     * Randomly chooses a Settlement to be the Object of the given Relationship. For Predicates with a Pool kept by the
+     * World, picks from that Pool, otherwise filters all Settlements of the World by the Predicate.
+     * @param predicate The Predicate applied from the Object to the Subject.
+     * @param subjectFeature The Subject of the Relationship.
+     * @return The chosen Settlement, or Null if no Settlement is compatible.
+     */
+    public Settlement chooseSettlementByPredicate(@NotNull Predicate predicate, Feature subjectFeature) {
+        switch (predicate.getLabel()) {
+            case RESIDENCE -> {
+                // Every Settlement in the Pool is compatible.
+                return world.getSettlementsBelowMaxResidents().getRandom(randNum);
+            }
+            case RULES -> {
+                // If the Subject already lives somewhere, it can only rule there.
+                Settlement subjectResidence = ((NPC) subjectFeature).getResidence();
+                if (subjectResidence != null) {
+                    return subjectResidence.hasRuler() ? null : subjectResidence;
+                }
+                return world.getSettlementsWithoutRuler().getRandom(randNum);
+            }
+            default -> {
+                return chooseRandom(filterSettlementsByPredicate(predicate, subjectFeature, getSettlementFeatures()));
+            }
+        }
+    }
+
+    /**
+     * Randomly chooses a Feature from the given filtered list.
+     * @param features The Features to choose from.
+     * @return The chosen Feature, or Null if the list is empty.
+     * @param <T> The Feature subclass.
+     */
+    private <T extends Feature> T chooseRandom(@NotNull ArrayList<T> features) {
+        if (features.isEmpty()) {
+            return null;
+        }
+        return features.get(randNum.nextInt(features.size()));
+    }
+
+    /**
+     * Keeps the candidate NPCs that pass the given Family check, in their original order. The checks only read the
+     * current World, so above the parallel threshold a snapshot of the candidates is checked across threads.
+     * @param npcs The candidate NPCs, which are not modified.
+     * @param isCompatible The check an NPC must pass to be kept.
+     * @return A new ArrayList of the compatible NPCs.
+     */
+    private ArrayList<NPC> filterFamilyCandidates(List<NPC> npcs, FamilyCheck isCompatible) {
+        if (npcs.size() >= parallelFilterThreshold) {
+            return List.copyOf(npcs).parallelStream()
+                    .filter(isCompatible::test)
+                    .collect(Collectors.toCollection(ArrayList::new));
+        }
+        ArrayList<NPC> compatibleNPCs = new ArrayList<>();
+        for (NPC npc : npcs) {
+            if (isCompatible.test(npc)) {
+                compatibleNPCs.add(npc);
+            }
+        }
+        return compatibleNPCs;
+    }
+
     /**
      * Filters which Predicates are applicable to the given Settlement who is the Subject of the Relationship.
      * In other words, the first Feature to be selected for the Relationship.
@@ -337,32 +413,31 @@ public class FeatureManager {
      * @param predicates ArrayList of Predicates to check for.
      * @return Filtered ArrayList of Predicates applicable to the NPC.
      */
-    public ArrayList<Predicate> filterSettlementSubjectPredicates(Settlement settlement, ArrayList<Predicate> predicates) {
+    public static ArrayList<Predicate> filterSettlementSubjectPredicates(Settlement settlement, ArrayList<Predicate> predicates) {
         ArrayList<Predicate> filteredPredicates = new ArrayList<>(predicates);
         Iterator<Predicate> iterator = filteredPredicates.iterator();
         while (iterator.hasNext()) {
             Predicate predicate = iterator.next();
-            String predicateString = predicate.getPredicateString();
-            switch (predicateString) {
-                case "residence" -> {
+            switch (predicate.getLabel()) {
+                case RESIDENCE -> {
                     if (settlement.numberOfResidents() >= settlement.getMaxResidents()) {
                         iterator.remove();
                         // Removes if it has max Residents.
                     }
                 }
-                case "rules" -> {
+                case RULES -> {
                     if (settlement.hasRuler()) {
                         iterator.remove();
                         // Removes if already has a Ruler.
                     }
                 }
-                case "trades" -> {
+                case TRADES -> {
                     if (settlement.numberOfTradingSettlements() >= MAX_TRADES) {
                         iterator.remove();
                         // Removes if it has reached max Trading Settlements.
                     }
                 }
-                case "rival" -> {
+                case RIVAL -> {
                     if (settlement.numberOfRivalSettlements() >= MAX_RIVALS) {
                         iterator.remove();
                         // Removes if it has reached max Rival Settlements.
@@ -381,12 +456,12 @@ public class FeatureManager {
      * @param settlements An ArrayList of Settlements to choose from.
      * @return Filtered ArrayList of compatible Settlements
      */
-    public ArrayList<Settlement> filterSettlementsByPredicate(@NotNull String predicate, Feature subjectFeature, ArrayList<Settlement> settlements) {
+    public ArrayList<Settlement> filterSettlementsByPredicate(@NotNull Predicate predicate, Feature subjectFeature, List<Settlement> settlements) {
         ArrayList<Settlement> filteredSettlements = new ArrayList<>(settlements);
         Iterator<Settlement> settlementIterator = filteredSettlements.iterator();
 
-        switch (predicate) {
-            case "residence" -> {
+        switch (predicate.getLabel()) {
+            case RESIDENCE -> {
                 while(settlementIterator.hasNext()) {
                     Settlement settlement = settlementIterator.next();
                     if(settlement.numberOfResidents() >= settlement.getMaxResidents()) {
@@ -395,7 +470,7 @@ public class FeatureManager {
                     }
                 }
             }
-            case "rules" -> {
+            case RULES -> {
                 NPC subjectNPC = (NPC) subjectFeature;
                 Settlement subjectResidence = subjectNPC.getResidence();
                 while(settlementIterator.hasNext()) {
@@ -406,7 +481,7 @@ public class FeatureManager {
                     }
                 }
             }
-            case "trades" -> {
+            case TRADES -> {
                 Settlement subjectSettlement = (Settlement) subjectFeature;
                 while(settlementIterator.hasNext()) {
                     Settlement settlement = settlementIterator.next();
@@ -417,7 +492,7 @@ public class FeatureManager {
                     }
                 }
             }
-            case "rival" -> {
+            case RIVAL -> {
                 Settlement subjectSettlement = (Settlement) subjectFeature;
                 while(settlementIterator.hasNext()) {
                     Settlement settlement = settlementIterator.next();
@@ -435,34 +510,27 @@ public class FeatureManager {
     /**
      * Checks if Feature already has a Relationship type.
      * @param feature The Feature to check.
-     * @param predicate The Relationship type, e.g. "ruler" if they are already a ruler.
+     * @param label The Relationship type, e.g. RULES if they are already a ruler.
      * @return Boolean of whether they have the Relationship.
      */
-    private boolean featureHasSameRelationship(@NotNull Feature feature, String predicate) {
-        return feature.getTripleRelationships().stream()
-                .anyMatch(relationship -> relationship.getLeft().equals(predicate));
+    private static boolean featureHasSameRelationship(@NotNull Feature feature, RelationshipLabel label) {
+        return feature.hasRelationship(label);
     }
 
     /**
      * Returns all NPCs of the World.
-     * @return ArrayList of all NPCs.
+     * @return Read-only List of all NPCs.
      */
-    public ArrayList<NPC> getNPCFeatures() {
-        return world.getFeatures().stream()
-                .filter(feature -> feature.getClass().equals(NPC.class))
-                .map(feature -> (NPC) feature)
-                .collect(Collectors.toCollection(ArrayList::new));
+    public List<NPC> getNPCFeatures() {
+        return world.getAllNPCs();
     }
 
     /**
      * Returns all Settlements of the World.
-     * @return ArrayList of all Settlements.
+     * @return Read-only List of all Settlements.
      */
-    public ArrayList<Settlement> getSettlementFeatures() {
-        return world.getFeatures().stream()
-                .filter(feature -> feature.getClass().equals(Settlement.class))
-                .map(feature -> (Settlement) feature)
-                .collect(Collectors.toCollection(ArrayList::new));
+    public List<Settlement> getSettlementFeatures() {
+        return world.getAllSettlements();
     }
 
     /**
@@ -497,19 +565,17 @@ public class FeatureManager {
 
     /**
      * Checks if the Parent is compatible with the Child's Family.
-     * Slightly different to compatibleFamilyChild as to not have to retrieve Child's Family each time.
+     * Slightly different to compatibleFamilyChild as the Parent is the one changing each time.
      * @param parent The potential Parent.
      * @param child The potential Child.
-     * @param childFamilyMembers Family Members of the Child.
+     * @param childBloodLines Blood Lines of the Child.
      * @return Boolean of whether they are compatible.
      */
-    private boolean compatibleFamilyParent(NPC parent, NPC child, HashSet<NPC> childFamilyMembers) {
-        if(parent.isFamilyMemberOf(child)) { return false; }
+    private boolean compatibleFamilyParent(NPC parent, NPC child, Set<NPC> childBloodLines) {
+        if(parent.sharesBloodLineWith(childBloodLines)) { return false; }
         if(parent.hasPartner()) {   // If Parent has a partner, checks Child isn't it, or not another Family Member.
-            if(parent.isPartnerOf(child)) { return false; }
-            for(NPC familyMember : childFamilyMembers) {
-                if(parent.isPartnerOf(familyMember)) { return false;}
-            }
+            NPC parentPartner = parent.getPartner();
+            if(parentPartner == child || parentPartner.sharesBloodLineWith(childBloodLines)) { return false; }
         }
         // Check potential Parent was old enough for all of the Siblings that will also become their Children.
         int parentAdultAge = getNPCRaceAdultAge(parent);
@@ -526,20 +592,16 @@ public class FeatureManager {
      * Slightly different to compatibleFamilyParent as to not have to retrieve Parent's partner each time.
      * @param child The potential Child.
      * @param parent The potential Parent.
-     * @param parentHasPartner Whether checks of Parents partner need to be made.
+     * @param parentBloodLines Blood Lines of the Parent.
      * @param parentPartner The Partner (Can be Null)
+     * @param parentPartnerBloodLines Blood Lines of the Partner, Null if there is no Partner.
      * @return Boolean of whether they are compatible.
      */
-    private boolean compatibleFamilyChild(NPC child, NPC parent, boolean parentHasPartner, NPC parentPartner) {
-        if(child.isFamilyMemberOf(parent)) { return false; }
-        if(parentHasPartner) {  // If Parent has a partner, checks Child isn't it, or not another Family Member.
-            if(child == parentPartner) { return false; }
-            HashSet<NPC> childFamilyMembers = child.getFamilyMembers();
-            for(NPC familyMember : childFamilyMembers) {
-                if (familyMember == parentPartner) {
-                    return false;
-                }
-            }
+    private boolean compatibleFamilyChild(NPC child, NPC parent, Set<NPC> parentBloodLines, NPC parentPartner,
+                                          Set<NPC> parentPartnerBloodLines) {
+        if(child.sharesBloodLineWith(parentBloodLines)) { return false; }
+        if(parentPartner != null) {  // If Parent has a partner, checks Child isn't it, or not another Family Member.
+            if(child == parentPartner || child.sharesBloodLineWith(parentPartnerBloodLines)) { return false; }
         }
         // Checks the Parent is old enough for each potential new Child.
         int parentAdultAge = getNPCRaceAdultAge(parent);
@@ -620,59 +682,53 @@ public class FeatureManager {
 
     /**
      * Manages the process of Generating a new Feature for an unfinished Relationship.
-     * @param unfinishedRelationships Unfinished Relationships in the World.
+     * @param unfinishedRelationships Unfinished Relationships of the World, which are removed from the World itself.
      * @return An ArrayList of the New Features that have been Generated.
      * @throws GenerationFailureException Throws if Failure in Generation.
      */
-    public ArrayList<Feature> completeUnfinishedRelationships(@NotNull ArrayList<Relationship> unfinishedRelationships)
+    public ArrayList<Feature> completeUnfinishedRelationships(@NotNull Collection<Relationship> unfinishedRelationships)
             throws GenerationFailureException {
         ArrayList<Feature> newFeatures = new ArrayList<>();
-        Iterator<Relationship> relationshipIterator = unfinishedRelationships.iterator();
-        while(relationshipIterator.hasNext()) {
-            Relationship relationship = relationshipIterator.next();
+        for(Relationship relationship : unfinishedRelationships) {
             // Makes sure the Subject of the Relationship can still be the Subject
             if(isRelationshipStillPossible(relationship)) {
                 if(randNum.nextBoolean()) {     // 50% chance to Generate a new Feature.
                     Predicate predicateBtoA = relationship.getPredicateBtoA();
-                    switch (predicateBtoA.getRequiredSubjectClass().getSimpleName()) {
-                        case "NPC" -> {
-                            Feature newNPC = relationship.setSecondFeature(npcGenerator.
-                                    generateFeatureFromRelationship(relationship, predicateBtoA));
-                            if(newNPC != null) {
-                                world.saveFeature(newNPC);
-                                newFeatures.add(newNPC);
-                            }
+                    Class<? extends Feature> requiredSubjectClass = predicateBtoA.getRequiredSubjectClass();
+                    if (requiredSubjectClass == NPC.class) {
+                        Feature newNPC = relationship.setSecondFeature(npcGenerator.
+                                generateFeatureFromRelationship(relationship, predicateBtoA));
+                        if(newNPC != null) {
+                            world.saveFeature(newNPC);
+                            newFeatures.add(newNPC);
                         }
-                        case "Settlement" -> {
-                            Feature newSettlement = relationship.setSecondFeature(settlementGenerator.
-                                    generateFeatureFromRelationship(relationship, predicateBtoA));
-                            if(newSettlement != null) {
-                                world.saveFeature(newSettlement);
-                                newFeatures.add(newSettlement);
-                            }
+                    } else if (requiredSubjectClass == Settlement.class) {
+                        Feature newSettlement = relationship.setSecondFeature(settlementGenerator.
+                                generateFeatureFromRelationship(relationship, predicateBtoA));
+                        if(newSettlement != null) {
+                            world.saveFeature(newSettlement);
+                            newFeatures.add(newSettlement);
                         }
                     }
                     if (relationship.isCompleted()) {
                         world.saveRelationship(relationship);
-                        relationshipGenerator.postRelationshipCleanUp(relationship);
+                        // The Relationship Generator is created after this, so is got from the Context.
+                        context.getRelationshipGenerator().postRelationshipCleanUp(relationship);
                     } else {
                         // Counts Relationship timer down, removing it if not complete after 3 Generations.
                         relationship.unfinishedCountdown();
                         if(relationship.isOutOfTime()) {
-                            relationshipIterator.remove();
-                            world.removeUnfinishedRelationship(relationship);
+                                world.removeUnfinishedRelationship(relationship);
                         }
                     }
                 } else {
                     relationship.unfinishedCountdown();
                     if(relationship.isOutOfTime()) {
-                        relationshipIterator.remove();
                         world.removeUnfinishedRelationship(relationship);
                     }
                 }
             } else {
                 // Removes if no longer possible.
-                relationshipIterator.remove();
                 world.removeUnfinishedRelationship(relationship);
             }
         }
@@ -688,48 +744,48 @@ public class FeatureManager {
     public boolean isRelationshipStillPossible(@NotNull Relationship relationship) {
         Feature feature = relationship.getFeatureA();
         Predicate predicate = relationship.getPredicateAtoB();
-        switch(predicate.getPredicateString()) {
-            case "resident" -> {
+        switch(predicate.getLabel()) {
+            case RESIDENT -> {
                 NPC npc = (NPC) feature;
                 if(npc.hasResidence()) { return false; }
             }
-            case "ruler" -> {
+            case RULER -> {
                 NPC npc = (NPC) feature;
                 if(npc.hasResidence() || npc.isARuler()) { return false; }
             }
-            case "partner" -> {
+            case PARTNER -> {
                 NPC npc = (NPC) feature;
                 if(npc.hasPartner()) { return false; }
             }
-            case "parent" -> {
+            case PARENT -> {
                 NPC npc = (NPC) feature;
                 if(npc.numberOfChildren() >= MAX_CHILDREN) { return false; }
             }
-            case "child" -> {
+            case CHILD -> {
                 NPC npc = (NPC) feature;
                 if(npc.hasBothParents()) { return false; }
             }
-            case "sibling" -> {
+            case SIBLING -> {
                 NPC npc = (NPC) feature;
                 if(npc.numberOfSiblings() >= MAX_SIBLINGS) { return false; }
             }
-            case "killed" -> {
+            case KILLED -> {
                 NPC npc = (NPC) feature;
                 if(npc.isNotAlive()) { return false; }
             }
-            case "residence" -> {
+            case RESIDENCE -> {
                 Settlement settlement = (Settlement) feature;
                 if(settlement.hasReachedMaxResidents()) { return false; }
             }
-            case "rules" -> {
+            case RULES -> {
                 Settlement settlement = (Settlement) feature;
                 if(settlement.hasRuler()) { return false; }
             }
-            case "trades" -> {
+            case TRADES -> {
                 Settlement settlement = (Settlement) feature;
                 if(settlement.getTradingSettlements().size() >= MAX_TRADES) { return false; }
             }
-            case "rival" -> {
+            case RIVAL -> {
                 Settlement settlement = (Settlement) feature;
                 if(settlement.getRivalSettlements().size() >= MAX_RIVALS) { return false; }
             }
@@ -0,0 +1,89 @@
+package com.cgw.generators;
+
+import com.cgw.features.World;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The result of Generating one World of a batch: the World, or why it failed, along with its Seed
+ * and how long it took to Generate.
+ * @author Luke Burston
+ * @author lb800@kent.ac.uk
+ * @version 0.1
+ * @since 0.1
+ */
+public class GeneratedWorld {
+
+    private final int index;            // Position of the World in its batch, from 0.
+    private final long seed;            // The Seed the World was Generated from.
+    private final World world;          // Null if Generation failed.
+    private final Exception failure;    // Null if Generation succeeded.
+    private final long generationNanos; // Time taken to Generate the World.
+
+    /**
+     * Constructor for the result of Generating a World.
+     * @param index The position of the World in its batch.
+     * @param seed The Seed the World was Generated from.
+     * @param world The Generated World, or Null if Generation failed.
+     * @param failure The reason Generation failed, or Null if it succeeded.
+     * @param generationNanos The time taken to Generate the World, in nanoseconds.
+     */
+    public GeneratedWorld(int index, long seed, @Nullable World world, @Nullable Exception failure,
+                          long generationNanos) {
+        this.index = index;
+        this.seed = seed;
+        this.world = world;
+        this.failure = failure;
+        this.generationNanos = generationNanos;
+    }
+
+    /**
+     * Returns the position of the World in its batch.
+     * @return The index, from 0.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the Seed the World was Generated from, which Generates the same World again with the same settings.
+     * @return The Seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the Generated World.
+     * @return The World, or Null if Generation failed.
+     */
+    public @Nullable World getWorld() {
+        return world;
+    }
+
+    /**
+     * Returns why Generation failed.
+     * @return The Exception, or Null if Generation succeeded.
+     */
+    public @Nullable Exception getFailure() {
+        return failure;
+    }
+
+    /**
+     * Checks whether the World was Generated.
+     * @return Boolean of whether Generation succeeded.
+     */
+    public boolean isSuccessful() {
+        return failure == null;
+    }
+
+    /**
+     * Returns the time taken to Generate the World.
+     * @param unit The unit of time to return.
+     * @return The time taken, rounded down to the unit.
+     */
+    public long getGenerationTime(TimeUnit unit) {
+        return unit.convert(generationNanos, TimeUnit.NANOSECONDS);
+    }
+}
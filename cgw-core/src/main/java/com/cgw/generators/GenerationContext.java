@@ -0,0 +1,123 @@
+package com.cgw.generators;
+
+import com.cgw.features.World;
+import com.cgw.generators.feature.NPCGenerator;
+import com.cgw.generators.feature.NameRegistry;
+import com.cgw.generators.feature.SettlementGenerator;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Everything needed to Generate a single World: the World itself, its settings and Random Streams, the names
+ * already used, and a Feature Manager and each Generator working on that World.
+ * Nothing is shared between Contexts except the imported resources, which are never changed after importing,
+ * so many Worlds can be Generated at once by giving each Thread its own Context.
+ * A Context must only be used by one Thread at a time.
+ * @author Luke Burston
+ * @author lb800@kent.ac.uk
+ * @version 0.1
+ * @since 0.1
+ */
+public class GenerationContext {
+
+    private final WorldGenerationConfig config;     // Settings of the Generation.
+    private final RandomStreams randomStreams;      // Streams split from the Seed of the config.
+    private final World world;                      // The World being Generated.
+    private final NameRegistry nameRegistry;        // Names already given to Features of the World.
+
+    // The Generators of this World.
+    private final NPCGenerator npcGenerator;
+    private final SettlementGenerator settlementGenerator;
+    private final FeatureManager featureManager;
+    private final RelationshipGenerator relationshipGenerator;
+
+    /**
+     * Constructor for a Context with the default settings and a new random Seed.
+     */
+    public GenerationContext() {
+        this(new WorldGenerationConfig());
+    }
+
+    /**
+     * Constructor for a Context with an empty World, creating each Generator for it.
+     * The Generators are created in order, as each one gets the ones before it from this Context.
+     * @param config The settings of the Generation.
+     */
+    public GenerationContext(@NotNull WorldGenerationConfig config) {
+        this.config = config;
+        randomStreams = new RandomStreams(config.getSeed());
+        world = new World();
+        world.setSeed(config.getSeed());
+        nameRegistry = new NameRegistry();
+
+        npcGenerator = new NPCGenerator(this);
+        settlementGenerator = new SettlementGenerator(this);
+        featureManager = new FeatureManager(this);
+        relationshipGenerator = new RelationshipGenerator(this);
+    }
+
+    /* Getters */
+
+    /**
+     * Returns the settings of the Generation.
+     * @return The config.
+     */
+    public WorldGenerationConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Returns the Random Streams split from the Seed of the Generation.
+     * @return The Random Streams.
+     */
+    public RandomStreams getRandomStreams() {
+        return randomStreams;
+    }
+
+    /**
+     * Returns the World being Generated.
+     * @return The World.
+     */
+    public World getWorld() {
+        return world;
+    }
+
+    /**
+     * Returns the Registry of names already given to Features of the World.
+     * @return The Name Registry.
+     */
+    public NameRegistry getNameRegistry() {
+        return nameRegistry;
+    }
+
+    /**
+     * Returns the NPC Generator of the World.
+     * @return The NPC Generator.
+     */
+    public NPCGenerator getNPCGenerator() {
+        return npcGenerator;
+    }
+
+    /**
+     * Returns the Settlement Generator of the World.
+     * @return The Settlement Generator.
+     */
+    public SettlementGenerator getSettlementGenerator() {
+        return settlementGenerator;
+    }
+
+    /**
+     * Returns the Feature Manager of the World.
+     * @return The Feature Manager.
+     */
+    public FeatureManager getFeatureManager() {
+        return featureManager;
+    }
+
+    /**
+     * Returns the Relationship Generator of the World.
+     * @return The Relationship Generator.
+     */
+    public RelationshipGenerator getRelationshipGenerator() {
+        return relationshipGenerator;
+    }
+}
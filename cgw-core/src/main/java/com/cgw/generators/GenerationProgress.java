@@ -0,0 +1,153 @@
+package com.cgw.generators;
+
+import com.cgw.features.World;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A snapshot of how far a World has got through its Generation, published by the World Generator after each stage
+ * and Iteration. Each snapshot holds the whole state of the Generation so far, so any one of them can be skipped
+ * when they are published faster than they are read, and the next one still tells the full story.
+ * @author Luke Burston
+ * @author lb800@kent.ac.uk
+ * @version 0.1
+ * @since 0.1
+ */
+public class GenerationProgress {
+
+    /**
+     * Enum of the stages of Generation, in the order they happen.
+     */
+    public enum Stage {
+        INITIAL,    // The Initial Generation of the starting Features has finished.
+        ITERATION,  // An Iteration of the Iterative Generation has finished.
+        FINAL,      // The Stopping Criteria has been met and the Final Generations are running.
+        FINISHED    // The World is fully Generated.
+    }
+
+    private final Stage stage;
+    private final int iteration;        // Iterations of the Iterative Generation finished, from 0.
+    private final int npcs;
+    private final int settlements;
+    private final int relationships;
+    // Fractions of the World meeting each Stopping Criteria, from 0 to 1, to compare with the config's percentages.
+    private final double residencePercentage;
+    private final double familyPercentage;
+    private final double rulerPercentage;
+    private final long elapsedNanos;    // Time since Generation started.
+
+    /**
+     * Constructor for a snapshot of the World's Generation, counting its Features, Relationships and Stopping Criteria.
+     * @param stage The stage of Generation just finished.
+     * @param iteration Iterations of the Iterative Generation finished.
+     * @param world The World being Generated.
+     * @param elapsedNanos Time since Generation started, in nanoseconds.
+     */
+    public GenerationProgress(@NotNull Stage stage, int iteration, @NotNull World world, long elapsedNanos) {
+        this.stage = stage;
+        this.iteration = iteration;
+        this.npcs = world.numberOfNPCs();
+        this.settlements = world.numberOfSettlements();
+        this.relationships = world.numberOfRelationships();
+        this.residencePercentage = fraction(world.numberOfNPCsWithResidence(), npcs);
+        this.familyPercentage = fraction(world.numberOfNPCsWithMoreThanTwoFamilyMembers(), npcs);
+        this.rulerPercentage = fraction(world.numberOfSettlementsWithRuler(), settlements);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Returns the fraction of a total, or 0 if there are none.
+     * @param amount The amount meeting a Stopping Criteria.
+     * @param total The total amount.
+     * @return The fraction, from 0 to 1.
+     */
+    private static double fraction(int amount, int total) {
+        return total == 0 ? 0 : (double) amount / total;
+    }
+
+    /**
+     * Returns the stage of Generation just finished.
+     * @return The Stage.
+     */
+    public Stage getStage() {
+        return stage;
+    }
+
+    /**
+     * Returns how many Iterations of the Iterative Generation have finished.
+     * @return The Iterations, from 0.
+     */
+    public int getIteration() {
+        return iteration;
+    }
+
+    /**
+     * Returns how many NPCs the World has.
+     * @return The amount of NPCs.
+     */
+    public int getNPCs() {
+        return npcs;
+    }
+
+    /**
+     * Returns how many Settlements the World has.
+     * @return The amount of Settlements.
+     */
+    public int getSettlements() {
+        return settlements;
+    }
+
+    /**
+     * Returns how many Relationships the World has.
+     * @return The amount of Relationships.
+     */
+    public int getRelationships() {
+        return relationships;
+    }
+
+    /**
+     * Returns the fraction of NPCs that have a Residence.
+     * @return The fraction, from 0 to 1.
+     */
+    public double getResidencePercentage() {
+        return residencePercentage;
+    }
+
+    /**
+     * Returns the fraction of NPCs that have more than two Family Members.
+     * @return The fraction, from 0 to 1.
+     */
+    public double getFamilyPercentage() {
+        return familyPercentage;
+    }
+
+    /**
+     * Returns the fraction of Settlements that have a Ruler.
+     * @return The fraction, from 0 to 1.
+     */
+    public double getRulerPercentage() {
+        return rulerPercentage;
+    }
+
+    /**
+     * Returns the time since Generation started.
+     * @param unit The unit of time to return it in.
+     * @return The time elapsed.
+     */
+    public long getElapsed(@NotNull TimeUnit unit) {
+        return unit.convert(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns a single line describing the progress, e.g. for printing on the command line.
+     * @return The progress as a String.
+     */
+    @Override
+    public String toString() {
+        return String.format("%s %d: %d NPCs, %d Settlements, %d Relationships, "
+                        + "Residence %.0f%%, Family %.0f%%, Rulers %.0f%% (%dms)",
+                stage, iteration, npcs, settlements, relationships, residencePercentage * 100,
+                familyPercentage * 100, rulerPercentage * 100, getElapsed(TimeUnit.MILLISECONDS));
+    }
+}
@@ -0,0 +1,114 @@
+package com.cgw.generators;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+
+/**
+ * Publishes the Generation Progress of a World Generator to any number of Subscribers, such as the Generating screen,
+ * the command line, or something recording metrics. Each Subscriber is given the Progress on its own Thread, so a
+ * slow Subscriber never holds up Generation.
+ * Progress is coalesced: a snapshot is only published if the interval has passed since the last one or it starts a
+ * new Stage, and is dropped for any Subscriber that has not yet read the ones before it. As each snapshot holds the
+ * whole state so far, only the in-between ones are lost. The snapshot of a finished World is always published.
+ * @author Luke Burston
+ * @author lb800@kent.ac.uk
+ * @version 0.1
+ * @since 0.1
+ */
+public class GenerationProgressPublisher implements Flow.Publisher<GenerationProgress> {
+
+    // Shortest time between two snapshots being published, in milliseconds, unless given.
+    public static final long DEFAULT_MIN_INTERVAL = 100;
+    // Snapshots held for each Subscriber before new ones are dropped.
+    private static final int BUFFER_SIZE = 4;
+
+    private final SubmissionPublisher<GenerationProgress> publisher =
+            new SubmissionPublisher<>(ForkJoinPool.commonPool(), BUFFER_SIZE);
+    private final long minIntervalNanos;
+    private long lastPublishedNanos;
+    private GenerationProgress.Stage lastStage;  // Stage of the last snapshot published, Null if none yet.
+
+    /**
+     * Constructor for a Publisher that publishes at most one snapshot every DEFAULT_MIN_INTERVAL.
+     */
+    public GenerationProgressPublisher() {
+        this(DEFAULT_MIN_INTERVAL);
+    }
+
+    /**
+     * Constructor for a Publisher that publishes at most one snapshot in the given interval.
+     * @param minInterval Shortest time between two snapshots, in milliseconds.
+     */
+    public GenerationProgressPublisher(long minInterval) {
+        if(minInterval < 0) {
+            throw new IllegalArgumentException("Interval must not be negative, was " + minInterval);
+        }
+        this.minIntervalNanos = minInterval * 1_000_000;
+    }
+
+    /**
+     * Adds a Subscriber, which is given each snapshot published from now on.
+     * @param subscriber The Subscriber.
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super GenerationProgress> subscriber) {
+        publisher.subscribe(subscriber);
+    }
+
+    /**
+     * Checks if anything is Subscribed, so the World Generator only makes snapshots when they will be read.
+     * @return Boolean of whether there are any Subscribers.
+     */
+    public boolean hasSubscribers() {
+        return publisher.hasSubscribers();
+    }
+
+    /**
+     * Checks if a snapshot of the given Stage would be published now, so the World Generator only makes the snapshots
+     * that will not be dropped. A snapshot is accepted if it is FINISHED, starts a new Stage, or the interval has
+     * passed since the last one.
+     * @param stage The Stage of the snapshot.
+     * @return Boolean of whether the snapshot would be published.
+     */
+    public boolean accepts(@NotNull GenerationProgress.Stage stage) {
+        return stage == GenerationProgress.Stage.FINISHED || stage != lastStage
+                || System.nanoTime() - lastPublishedNanos >= minIntervalNanos;
+    }
+
+    /**
+     * Publishes a snapshot, unless one of the same Stage was published less than the interval ago.
+     * A snapshot of a FINISHED World is always published, waiting for room if a Subscriber is behind.
+     * @param progress The snapshot.
+     */
+    public void publish(@NotNull GenerationProgress progress) {
+        if(!accepts(progress.getStage())) {
+            return;
+        }
+        if(progress.getStage() == GenerationProgress.Stage.FINISHED) {
+            publisher.submit(progress);
+        } else {
+            // Drops the snapshot for any Subscriber still reading older ones, rather than waiting.
+            publisher.offer(progress, (subscriber, dropped) -> false);
+        }
+        lastStage = progress.getStage();
+        lastPublishedNanos = System.nanoTime();
+    }
+
+    /**
+     * Tells each Subscriber that Generation has finished, once it has read every snapshot published.
+     */
+    public void close() {
+        publisher.close();
+    }
+
+    /**
+     * Tells each Subscriber that Generation failed.
+     * @param failure The reason Generation failed.
+     */
+    public void closeExceptionally(@NotNull Throwable failure) {
+        publisher.closeExceptionally(failure);
+    }
+}
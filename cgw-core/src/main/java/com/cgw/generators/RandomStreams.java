@@ -0,0 +1,63 @@
+package com.cgw.generators;
+
+import java.util.EnumMap;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * The Random Generators of a single World, all split from the World's Seed.
+ * Each Generator is given its own Stream, so the numbers one Generator uses do not depend on how many another
+ * Generator has used, and the same Seed always Generates the same World.
+ * Streams are not thread-safe, so each one must only be used by one Thread at a time.
+ * @author Luke Burston
+ * @author lb800@kent.ac.uk
+ * @version 0.1
+ * @since 0.1
+ */
+public class RandomStreams {
+
+    /**
+     * The parts of the Generation that are each given their own Stream.
+     */
+    public enum Stream {
+        WORLD,
+        FEATURE_MANAGER,
+        RELATIONSHIPS,
+        NPCS,
+        SETTLEMENTS
+    }
+
+    private final long seed;    // The Seed every Stream is split from.
+    private final EnumMap<Stream, SplittableRandom> streams;
+
+    /**
+     * Constructor that splits a Stream for each part of the Generation from the Seed.
+     * @param seed The Seed of the World.
+     */
+    public RandomStreams(long seed) {
+        this.seed = seed;
+        streams = new EnumMap<>(Stream.class);
+        SplittableRandom root = new SplittableRandom(seed);
+        // Always split in the same order, so each Stream is the same for the same Seed.
+        for(Stream stream : Stream.values()) {
+            streams.put(stream, root.split());
+        }
+    }
+
+    /**
+     * Returns the Seed the Streams were split from.
+     * @return The Seed of the World.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the Stream for a part of the Generation.
+     * @param stream The part of the Generation.
+     * @return The Random Generator for that part.
+     */
+    public RandomGenerator getStream(Stream stream) {
+        return streams.get(stream);
+    }
+}
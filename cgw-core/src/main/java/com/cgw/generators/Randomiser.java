@@ -0,0 +1,38 @@
+package com.cgw.generators;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * A Static Randomiser Class for getting Random Generators and Seeds.
+ * Generation is given its Random Generators from the Random Streams of the World's Seed instead, so the exact
+ * same World can be generated again from its Seed (Provided nothing else changes).
+ * @author Luke Burston
+ * @author lb800@kent.ac.uk
+ * @version 0.1
+ * @since 0.1
+ */
+public class Randomiser {
+
+    /**
+     * Constructor for a Randomiser object.
+     */
+    private Randomiser() {
+    }
+
+    /**
+     * Provides a random generator for choices that do not need to be reproduced, such as random pages of the Wiki.
+     * @return A Random Generator only to be used by the calling Thread.
+     */
+    public static RandomGenerator getRandom() {
+        return ThreadLocalRandom.current();
+    }
+
+    /**
+     * Chooses a new random Seed for a World.
+     * @return The Seed.
+     */
+    public static long newSeed() {
+        return ThreadLocalRandom.current().nextLong();
+    }
+}
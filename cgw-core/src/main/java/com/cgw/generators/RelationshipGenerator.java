@@ -4,17 +4,19 @@ import com.cgw.exceptions.GenerationFailureException;
 import com.cgw.features.*;
 import com.cgw.features.World;
 import com.cgw.generators.feature.NPCGenerator;
+import com.cgw.generators.feature.NameRegistry;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import com.cgw.relationships.Predicate;
 import com.cgw.relationships.Relationship;
+import com.cgw.relationships.RelationshipLabel;
 
 import java.io.*;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Objects;
-import java.util.Random;
-import java.util.stream.Collectors;
+import java.util.random.RandomGenerator;
 
 /**
  * A Generator for Relationships.
@@ -25,57 +27,50 @@ import java.util.stream.Collectors;
  */
 public class RelationshipGenerator {
 
-    // Singleton instance of itself.
-    private static RelationshipGenerator relationshipGenerator = null;
-
-    // Feature Manager Singleton and Random.
-    private static final FeatureManager featureManager = FeatureManager.getFeatureManager();
-    private static final Random randNum = Randomiser.getRandom();
-
     // The weighting for not choosing a Relationship.
     private static final int NO_RELATIONSHIP_WEIGHT = 20;
 
-    private World world;
-    private final ArrayList<Predicate> predicates;  // List of all Predicates of Relationships.
-    private final HashMap<String, Predicate> predicateHashMap;  // Predicates Mapped to String value.
+    // Predicates are imported once and never changed, so are shared by the Relationship Generator of every World.
+    private static final ArrayList<Predicate> predicates = new ArrayList<>();  // List of all Predicates of Relationships.
+    private static final EnumMap<RelationshipLabel, Predicate> predicateLabelMap =
+            new EnumMap<>(RelationshipLabel.class);  // Predicates Mapped to their Label.
+    // Predicates grouped by their required Subject class, set once on import.
+    private static final HashMap<Class<? extends Feature>, ArrayList<Predicate>> predicatesBySubjectClass =
+            new HashMap<>();
 
-    /**
-     * Constructor for the Relationship Generator to create Relationships.
-     */
-    private RelationshipGenerator() {
-        predicates = new ArrayList<>();
-        predicateHashMap = new HashMap<>();
+    static {
         importPredicates();
     }
 
-    /**
-     * Sets the current World
-     * @param world The World.
-     */
-    public void setWorld(World world) {
-        this.world = world;
-    }
+    // The World, its Feature Manager, NPC Generator and Name Registry, from the Generation Context.
+    private final World world;
+    private final FeatureManager featureManager;
+    private final NPCGenerator npcGenerator;
+    private final NameRegistry nameRegistry;
+    private final RandomGenerator randNum;  // A Stream from the Seed of the World being Generated.
+    // Reused to choose each Predicate, as the possible Predicates change for every Feature.
+    private final CumulativeSampler predicateSampler;
 
     /**
-     * Returns this Generator, or creates a new one if it hasn't been set up yet.
-     * @return The Relationship Generator Singleton.
+     * Constructor for the Relationship Generator of a World, using the Relationship Stream of its Context.
+     * @param context The Generation Context of the World, which must already have its Feature Manager.
      */
-    public static RelationshipGenerator getRelationshipGenerator() {
-        if(relationshipGenerator == null) {
-            relationshipGenerator = new RelationshipGenerator();
-        }
-        return relationshipGenerator;
+    public RelationshipGenerator(@NotNull GenerationContext context) {
+        world = context.getWorld();
+        featureManager = context.getFeatureManager();
+        npcGenerator = context.getNPCGenerator();
+        nameRegistry = context.getNameRegistry();
+        randNum = context.getRandomStreams().getStream(RandomStreams.Stream.RELATIONSHIPS);
+        predicateSampler = new CumulativeSampler();
     }
 
     /**
-     * Filters the Predicates by their Subject Feature subclass.
+     * Returns the Predicates with the given Subject Feature subclass, grouped when imported.
      * @param subjectClass The Feature subclass to filter by.
-     * @return Filtered ArrayList of Predicates.
+     * @return ArrayList of Predicates for that subclass, which should not be modified.
      */
     public ArrayList<Predicate> sortPredicatesBySubjectClass(Class<? extends Feature> subjectClass) {
-        return predicates.stream()
-                .filter(predicate -> predicate.getRequiredSubjectClass() == subjectClass)
-                .collect(Collectors.toCollection(ArrayList::new));
+        return predicatesBySubjectClass.getOrDefault(subjectClass, new ArrayList<>());
     }
 
     /**
@@ -93,23 +88,18 @@ public class RelationshipGenerator {
         // If there are no compatible Predicates, moves onto next Feature, otherwise:
         if(!possiblePredicates.isEmpty()) {
             int predicateSize = possiblePredicates.size();
-            // An array for Predicates weighting, plus an extra for not creating a Relationship
-            int[] weightPool = new int[predicateSize + 1];
-            int predicateIndex = 0;
-            // Saves each Predicates weighting for being chosen into the array
+            // Adds each Predicates weighting for being chosen to the Sampler
+            predicateSampler.clear();
             for(Predicate predicate : possiblePredicates) {
-                weightPool[predicateIndex] = predicate.getWeight(); // Change this to a method to adjust weight based on feature & its relationships //
-                predicateIndex++;
+                predicateSampler.add(predicate.getWeight()); // Change this to a method to adjust weight based on feature & its relationships //
             }
-            // Saves the weight of not choosing a relationship to the end of the array
+            // Adds the weight of not choosing a relationship as the last index
             // (Affected by the feature's current number of relationships)
-            weightPool[predicateSize] = NO_RELATIONSHIP_WEIGHT * feature.numberOfRelationships();
+            predicateSampler.add(NO_RELATIONSHIP_WEIGHT * feature.numberOfRelationships());
 
-            // Adds all weights together then saves the value of each weight divided by the sum to a float array
             // This allows for dynamically choosing the Predicate, changing weighting depending on what other
-            // Predicates can be selected. Randomly chooses a float between 0-1, then one by one each weight
-            // value is taken away until one reduces it below 0, giving the randomly chosen Predicate
-            int chosenIndex = Randomiser.getRandomIndexFromWeighting(weightPool);
+            // Predicates can be selected. Each index is chosen with a probability of its weight over the total.
+            int chosenIndex = predicateSampler.sample(randNum);
             if(chosenIndex == predicateSize) {
                 return null;
             }
@@ -119,38 +109,23 @@ public class RelationshipGenerator {
             if(Objects.nonNull(chosenPredicate)) {
                 Predicate oppositePredicate = chosenPredicate.getOppositePredicate();
                 Class<? extends Feature> requiredFeatureClass = chosenPredicate.getRequiredObjectClass();
-                switch (requiredFeatureClass.getSimpleName()) {
-                    case "NPC" -> {
-                        // If the required Object is an NPC, gets them and filters out any that are incompatible.
-                        ArrayList<NPC> objectFeaturesOfCorrectType =
-                                featureManager.getNPCFeatures();
-                        ArrayList<NPC> possibleObjectFeatures = featureManager.filterNPCsByPredicate(
-                                oppositePredicate.getPredicateString(), feature, objectFeaturesOfCorrectType);
-                        if (possibleObjectFeatures.isEmpty()) {
-                            // If no compatible NPCs found, creates an unfinished Relationship.
-                            return new Relationship(feature, chosenPredicate, oppositePredicate);
-                        } else {
-                            // Chooses an NPC at random and creates the Relationship.
-                            int choosingIndex = randNum.nextInt(possibleObjectFeatures.size());
-                            NPC chosenObject = possibleObjectFeatures.get(choosingIndex);
-                            return new Relationship(feature, chosenObject, chosenPredicate, oppositePredicate);
-                        }
+                if (requiredFeatureClass == NPC.class) {
+                    // If the required Object is an NPC, randomly chooses one that is compatible.
+                    NPC chosenObject = featureManager.chooseNPCByPredicate(oppositePredicate, feature);
+                    if (chosenObject == null) {
+                        // If no compatible NPCs found, creates an unfinished Relationship.
+                        return new Relationship(feature, chosenPredicate, oppositePredicate);
+                    } else {
+                        return new Relationship(feature, chosenObject, chosenPredicate, oppositePredicate);
                     }
-                    case "Settlement" -> {
-                        // If the required Object is a Settlement, gets them and filters out any that are incompatible.
-                        ArrayList<Settlement> objectFeaturesOfCorrectType =
-                                featureManager.getSettlementFeatures();
-                        ArrayList<Settlement> possibleObjectFeatures = featureManager.filterSettlementsByPredicate(
-                                oppositePredicate.getPredicateString(), feature, objectFeaturesOfCorrectType);
-                        if (possibleObjectFeatures.isEmpty()) {
-                            // If no compatible Settlements found, creates an unfinished Relationship.
-                            return new Relationship(feature, chosenPredicate, oppositePredicate);
-                        } else {
-                            // Chooses a Settlement at random and creates the Relationship.
-                            int choosingIndex = randNum.nextInt(possibleObjectFeatures.size());
-                            Settlement chosenObject = possibleObjectFeatures.get(choosingIndex);
-                            return new Relationship(feature, chosenObject, chosenPredicate, oppositePredicate);
-                        }
+                } else if (requiredFeatureClass == Settlement.class) {
+                    // If the required Object is a Settlement, randomly chooses one that is compatible.
+                    Settlement chosenObject = featureManager.chooseSettlementByPredicate(oppositePredicate, feature);
+                    if (chosenObject == null) {
+                        // If no compatible Settlements found, creates an unfinished Relationship.
+                        return new Relationship(feature, chosenPredicate, oppositePredicate);
+                    } else {
+                        return new Relationship(feature, chosenObject, chosenPredicate, oppositePredicate);
                     }
                 }
             }
@@ -160,14 +135,14 @@ public class RelationshipGenerator {
 
     /**
      * Imports all Predicates and their details from the txt resource file and creates a new Predicate object for it.
-     * This allows for easily adding new Predicates via the txt file.
+     * This allows for easily adding new Predicates via the txt file. Called once, when the class is first used.
      */
-    private void importPredicates() {
+    private static void importPredicates() {
         BufferedReader reader;
         String currentLine;
 
         try {
-            InputStream is = getClass().getResourceAsStream("/predicates/predicates.txt");
+            InputStream is = RelationshipGenerator.class.getResourceAsStream("/predicates/predicates.txt");
             assert is != null;
             reader = new BufferedReader(new
                     InputStreamReader(is));
@@ -200,8 +175,12 @@ public class RelationshipGenerator {
             System.out.println(ex.getMessage());
         }
 
+        // Maps each Predicate to its Label and groups them by Subject class, so lookups during
+        // Generation do not have to compare Strings.
         for(Predicate predicate : predicates) {
-            predicateHashMap.put(predicate.getPredicateString(), predicate);
+            predicateLabelMap.put(predicate.getLabel(), predicate);
+            predicatesBySubjectClass.computeIfAbsent(predicate.getRequiredSubjectClass(), key -> new ArrayList<>())
+                    .add(predicate);
         }
 
     }
@@ -211,7 +190,7 @@ public class RelationshipGenerator {
      * @param feature The String name of the Feature type.
      * @return The matching Class.
      */
-    private Class<? extends Feature> stringToClass(String feature) {
+    private static Class<? extends Feature> stringToClass(String feature) {
         return switch (feature) {
             case "NPC" -> NPC.class;
             case "Settlement" -> Settlement.class;
@@ -220,11 +199,11 @@ public class RelationshipGenerator {
     }
 
     /**
-     * Returns the Predicate associated with a String.
+     * Returns the Predicate associated with a String, such as to rebuild a saved Relationship.
      * @param string The Predicate String of the Predicate.
-     * @return The Predicate Object.
+     * @return The Predicate Object, or Null if there is no Predicate with that String.
      */
-    private @Nullable Predicate getPredicateFromString(String string) {
+    public static @Nullable Predicate getPredicateFromString(String string) {
         for(Predicate predicate : predicates) {
             if(predicate.getPredicateString().equals(string)) {
                 return predicate;
@@ -233,6 +212,15 @@ public class RelationshipGenerator {
         return null;
     }
 
+    /**
+     * Returns the Predicate with the given Label.
+     * @param label The Label of the Predicate, e.g. RESIDENT.
+     * @return The Predicate Object, or Null if there is no Predicate with that Label.
+     */
+    public @Nullable Predicate getPredicateFromLabel(RelationshipLabel label) {
+        return predicateLabelMap.get(label);
+    }
+
     /**
      * Once a Relationship has been created, for certain types additional tasks must be carried out.
      * For example, making all Siblings of a new Child-Parent Relationship also a Child of the Parent.
@@ -243,14 +231,14 @@ public class RelationshipGenerator {
         Predicate[] relationshipPredicates = relationship.getBothPredicates();
         Unidirectional: for(int index = 0; index < 2; index++) {
             Predicate currentPredicate = relationshipPredicates[index];
-            switch (currentPredicate.getPredicateString()) {
-                case "ruler" -> {
+            switch (currentPredicate.getLabel()) {
+                case RULER -> {
                     // Makes Ruler a Resident of the Settlement if not already.
                     NPC newResident = (NPC) relationship.getFeatureFromPredicate(currentPredicate);
                     Settlement settlement = (Settlement) relationship.getOtherFeature(newResident);
                     if(!settlement.isResidenceOf(newResident)) {
-                        Predicate predAtoB = predicateHashMap.get("resident");
-                        Predicate predBtoA = predicateHashMap.get("residence");
+                        Predicate predAtoB = predicateLabelMap.get(RelationshipLabel.RESIDENT);
+                        Predicate predBtoA = predicateLabelMap.get(RelationshipLabel.RESIDENCE);
 
                         Relationship newRelationship = new Relationship(newResident, settlement, predAtoB, predBtoA);
                         if (newRelationship.isCompleted()) {
@@ -260,7 +248,7 @@ public class RelationshipGenerator {
                         }
                     }
                 }
-                case "parent" -> {
+                case PARENT -> {
                     // Changes Child's last name to the Parent's and makes new Child-Parent Relationships for Siblings.
                     NPC parent = (NPC) relationship.getFeatureFromPredicate(currentPredicate);
                     NPC child = (NPC) relationship.getOtherFeature(parent);
@@ -295,7 +283,7 @@ public class RelationshipGenerator {
                     NPC childParent = child.getOtherParent(parent);
                     if (childParent != null && !parent.hasPartner() && !childParent.hasPartner()
                             && randNum.nextInt(10) < 7) {
-                            Predicate partner = getPredicateFromString("partner");
+                            Predicate partner = predicateLabelMap.get(RelationshipLabel.PARTNER);
                             Relationship newRelationship = new Relationship(parent, childParent, partner, partner);
                         if (newRelationship.isCompleted()) {
                             world.saveRelationship(newRelationship);
@@ -304,7 +292,7 @@ public class RelationshipGenerator {
                         }
                     }
                 }
-                case "sibling" -> {
+                case SIBLING -> {
                     // Makes all other Siblings of both new Siblings, Siblings with each other, and Children
                     // of the other's Parent(s).
                     Feature[] siblings = relationship.getBothFeatures();
@@ -348,8 +336,8 @@ public class RelationshipGenerator {
                             }
                         }
                     }
-                    Predicate child = predicateHashMap.get("child");
-                    Predicate parent = predicateHashMap.get("parent");
+                    Predicate child = predicateLabelMap.get(RelationshipLabel.CHILD);
+                    Predicate parent = predicateLabelMap.get(RelationshipLabel.PARENT);
                     pairParentsAndSiblings(npcB, siblingsB, parentsA, child, parent);
                     pairParentsAndSiblings(npcA, siblingsB, parentsB, child, parent);
 
@@ -358,7 +346,7 @@ public class RelationshipGenerator {
                         NPC parentB = parentsB.get(0);
                         if(!parentA.hasPartner() && !parentB.hasPartner()
                             && !parentA.isPartnerOf(parentB)) {
-                            Predicate partner = predicateHashMap.get("partner");
+                            Predicate partner = predicateLabelMap.get(RelationshipLabel.PARTNER);
                             Relationship newRelationship =
                                 new Relationship(parentsA.get(0), parentsB.get(0), partner, partner);
                             if (newRelationship.isCompleted()) {
@@ -371,13 +359,13 @@ public class RelationshipGenerator {
 
                     break Unidirectional;
                 }
-                case "killed" -> {
+                case KILLED -> {
                     // Makes the victim of a Killer dead and removes their Ruler Relationship, if they have one.
                     NPC victim = (NPC) relationship.getFeatureFromPredicate(currentPredicate);
                     victim.setAlive(false);
 
                     Relationship rulingRelationship = victim.getSettlementTheyRule();
-                    if(rulingRelationship != null) { rulingRelationship.selfDestruct(); }
+                    if(rulingRelationship != null) { rulingRelationship.selfDestruct(world); }
                 }
             }
         }
@@ -423,24 +411,10 @@ public class RelationshipGenerator {
      * @return The same or changed name for the NPC.
      */
     private String filterDuplicateNames(String newName, char gender) {
-        ArrayList<String> usedNames = NPCGenerator.getNPCGenerator().getUsedNames();
-        if(usedNames.contains(newName)) {
-            boolean nameSet = false;
-            int safetyCheck = 5000;
-            String lastName = newName.split(" ")[1];
-            String changedName = newName;
-            while (!nameSet && safetyCheck > 0) {
-                safetyCheck--;
-                changedName = NPCGenerator.getNPCGenerator().generateFirstName(gender)
-                        + " " + lastName;
-                if(!usedNames.contains(changedName)) {
-                    nameSet = true;
-                }
-            }
-            NPCGenerator.getNPCGenerator().addToUsedNames(changedName);
-            return changedName;
+        if(nameRegistry.claimName(newName)) {
+            return newName;
         }
-        NPCGenerator.getNPCGenerator().addToUsedNames(newName);
-        return newName;
+        // Keeps the Last name, but gives a First name that is unused with it.
+        return npcGenerator.generateUniqueName(gender, newName.split(" ")[1]);
     }
 }
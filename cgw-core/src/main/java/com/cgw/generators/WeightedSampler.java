@@ -0,0 +1,27 @@
+package com.cgw.generators;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * A way of randomly choosing an index, where each index has a weighting that determines its probability of
+ * being chosen. e.g. Weights of 45, 45 and 10 choose the last index 10% of the time.
+ * @author Luke Burston
+ * @author lb800@kent.ac.uk
+ * @version 0.1
+ * @since 0.1
+ */
+public interface WeightedSampler {
+
+    /**
+     * Randomly chooses an index based on the weights.
+     * @param random The Random Generator to choose with.
+     * @return The chosen index.
+     */
+    int sample(RandomGenerator random);
+
+    /**
+     * Returns the amount of weights that can be chosen from.
+     * @return The amount of weights.
+     */
+    int size();
+}
@@ -0,0 +1,203 @@
+package com.cgw.generators;
+
+import com.cgw.exceptions.GenerationFailureException;
+import org.apache.commons.lang3.time.StopWatch;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * Generates many Worlds at once without the Application, such as to build up a library of Worlds.
+ * Each World is Generated by its own World Generator and Generation Context on a Fork Join Pool, whose idle
+ * Threads take Worlds from busy ones so the Threads stay busy even though some Worlds take longer than others.
+ * World i of a batch is Generated from the Seed baseSeed + i, so any World can be Generated again on its own.
+ * @author Luke Burston
+ * @author lb800@kent.ac.uk
+ * @version 0.1
+ * @since 0.1
+ */
+public class WorldBatchGenerator {
+
+    private final ForkJoinPool pool;    // The Threads the Worlds are Generated on.
+
+    /**
+     * Constructor for a Batch Generator using the common Fork Join Pool.
+     */
+    public WorldBatchGenerator() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor for a Batch Generator using the given Fork Join Pool, such as to limit the amount of Threads.
+     * @param pool The Pool to Generate the Worlds on.
+     */
+    public WorldBatchGenerator(@NotNull ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Returns the Seed of a World in a batch.
+     * @param baseSeed The Seed of the first World of the batch.
+     * @param index The position of the World in the batch, from 0.
+     * @return The Seed of the World.
+     */
+    public static long seedOf(long baseSeed, int index) {
+        return baseSeed + index;
+    }
+
+    /**
+     * Generates a batch of Worlds and returns them all once every World is Generated.
+     * Every World is kept until the end, so large batches should use a sink instead.
+     * @param count The amount of Worlds to Generate.
+     * @param baseSeed The Seed of the first World, each World after uses the next Seed.
+     * @param config The settings of every World. Its Seed is not used.
+     * @return The Generated Worlds, in order of their index.
+     */
+    public List<GeneratedWorld> generate(int count, long baseSeed, @NotNull WorldGenerationConfig config) {
+        ArrayList<GeneratedWorld> generatedWorlds = new ArrayList<>(count);
+        generate(count, baseSeed, config, generatedWorlds::add);
+        generatedWorlds.sort(Comparator.comparingInt(GeneratedWorld::getIndex));
+        return generatedWorlds;
+    }
+
+    /**
+     * Generates a batch of Worlds, passing each one to the sink as soon as it is Generated, in the order they finish.
+     * The sink is called from the Pool's Threads, but only one at a time, so it does not need to be thread-safe.
+     * Worlds that fail to Generate are passed to the sink as well, with the reason they failed.
+     * Returns once every World has been passed to the sink.
+     * @param count The amount of Worlds to Generate.
+     * @param baseSeed The Seed of the first World, each World after uses the next Seed.
+     * @param config The settings of every World. Its Seed is not used.
+     * @param sink Given each Generated World, such as to save it to disk and let it be discarded.
+     * @return The amount of Worlds that were Generated successfully.
+     */
+    public int generate(int count, long baseSeed, @NotNull WorldGenerationConfig config,
+                        @NotNull Consumer<GeneratedWorld> sink) {
+        return generate(count, baseSeed, config, UnaryOperator.identity(), sink);
+    }
+
+    /**
+     * Generates a batch of Worlds, first passing each one to process on the Thread that Generated it, then passing
+     * what process returns to the sink. Process is not locked, so slow work on each World, such as writing it to its
+     * own file, runs at the same time as the other Worlds, and must be thread-safe. The sink is only called one at a
+     * time, as above.
+     * @param count The amount of Worlds to Generate.
+     * @param baseSeed The Seed of the first World, each World after uses the next Seed.
+     * @param config The settings of every World. Its Seed is not used.
+     * @param process Given each Generated World, returning the result to pass to the sink, e.g. a failed World if
+     *                it could not be written.
+     * @param sink Given the result of each World.
+     * @return The amount of results that were successful.
+     */
+    public int generate(int count, long baseSeed, @NotNull WorldGenerationConfig config,
+                        @NotNull UnaryOperator<GeneratedWorld> process, @NotNull Consumer<GeneratedWorld> sink) {
+        if(count < 0) {
+            throw new IllegalArgumentException("Count must not be negative, was " + count);
+        }
+        // Copied so later changes to the config do not affect Worlds still waiting to be Generated.
+        WorldGenerationConfig batchConfig = new WorldGenerationConfig(config);
+        AtomicInteger successful = new AtomicInteger();
+        Consumer<GeneratedWorld> lockedSink = generatedWorld -> {
+            GeneratedWorld result = process.apply(generatedWorld);
+            if(result.isSuccessful()) { successful.incrementAndGet(); }
+            synchronized (sink) {
+                sink.accept(result);
+            }
+        };
+        pool.invoke(new GenerateRange(0, count, baseSeed, batchConfig, lockedSink));
+        return successful.get();
+    }
+
+    /**
+     * Generates a single World and times it.
+     * @param index The position of the World in its batch.
+     * @param seed The Seed to Generate the World from.
+     * @param config The settings of the World, copied so its Seed can be set.
+     * @return The Generated World, or the reason it failed.
+     */
+    public static GeneratedWorld generateOne(int index, long seed, @NotNull WorldGenerationConfig config) {
+        return generateOne(index, seed, config, null);
+    }
+
+    /**
+     * Generates a single World and times it, publishing its Generation Progress to a Subscriber.
+     * @param index The position of the World in its batch.
+     * @param seed The Seed to Generate the World from.
+     * @param config The settings of the World, copied so its Seed can be set.
+     * @param progress Given the Generation Progress of the World, or Null if not needed.
+     * @return The Generated World, or the reason it failed.
+     */
+    public static GeneratedWorld generateOne(int index, long seed, @NotNull WorldGenerationConfig config,
+                                             @Nullable Flow.Subscriber<? super GenerationProgress> progress) {
+        WorldGenerationConfig worldConfig = new WorldGenerationConfig(config);
+        worldConfig.setSeed(seed);
+        StopWatch watch = StopWatch.createStarted();
+        WorldGenerator worldGenerator = new WorldGenerator(worldConfig);
+        if(progress != null) {
+            worldGenerator.getProgress().subscribe(progress);
+        }
+        try {
+            worldGenerator.generateWorld();
+            watch.stop();
+            return new GeneratedWorld(index, seed, worldGenerator.getWorld(), null, watch.getNanoTime());
+        } catch (GenerationFailureException | RuntimeException ex) {
+            // Any failure is kept with the World, so one failed World never stops the rest of its batch.
+            watch.stop();
+            return new GeneratedWorld(index, seed, null, ex, watch.getNanoTime());
+        }
+    }
+
+    /**
+     * A range of Worlds of the batch to Generate, which is split in half until each part is a single World,
+     * so the Pool can share the halves out between its Threads.
+     */
+    private static class GenerateRange extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int from;     // Index of the first World, inclusive.
+        private final int to;       // Index after the last World, exclusive.
+        private final long baseSeed;
+        private final WorldGenerationConfig config;
+        private final Consumer<GeneratedWorld> sink;
+
+        /**
+         * Constructor for a range of Worlds to Generate.
+         * @param from Index of the first World, inclusive.
+         * @param to Index after the last World, exclusive.
+         * @param baseSeed The Seed of the first World of the batch.
+         * @param config The settings of every World.
+         * @param sink Given each Generated World.
+         */
+        GenerateRange(int from, int to, long baseSeed, WorldGenerationConfig config, Consumer<GeneratedWorld> sink) {
+            this.from = from;
+            this.to = to;
+            this.baseSeed = baseSeed;
+            this.config = config;
+            this.sink = sink;
+        }
+
+        /**
+         * Generates the World if only one is in the range, otherwise splits the range in half.
+         */
+        @Override
+        protected void compute() {
+            if(to - from == 1) {
+                sink.accept(generateOne(from, seedOf(baseSeed, from), config));
+            } else if(to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new GenerateRange(from, middle, baseSeed, config, sink),
+                        new GenerateRange(middle, to, baseSeed, config, sink));
+            }
+        }
+    }
+}
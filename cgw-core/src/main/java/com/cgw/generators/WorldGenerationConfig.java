@@ -0,0 +1,261 @@
+package com.cgw.generators;
+
+/**
+ * Settings for a single World Generation, passed into the World Generator. Holds the size limits and
+ * percentages used by the Stopping Criteria and the amount of Features generated in each batch.
+ * The default values produce the same size of World as the Application always has, from a new random Seed.
+ * @author Luke Burston
+ * @author lb800@kent.ac.uk
+ * @version 0.1
+ * @since 0.1
+ */
+public class WorldGenerationConfig {
+
+    /* Default Values */
+    private static final int DEFAULT_MAX_NPCS = 800;
+    private static final int DEFAULT_MAX_SETTLEMENTS = 20;
+    private static final double DEFAULT_RESIDENCE_PERCENTAGE = 0.9;
+    private static final double DEFAULT_FAMILY_PERCENTAGE = 0.95;
+    private static final double DEFAULT_RULER_PERCENTAGE = 1.0;
+    private static final int DEFAULT_BATCH_NPCS = 20;
+    private static final int DEFAULT_BATCH_SETTLEMENTS = 1;
+    private static final int DEFAULT_PARALLEL_FILTER_THRESHOLD = 2000;
+
+    // Size limits, once either is exceeded Iterative Generation stops.
+    private int maxNPCs;
+    private int maxSettlements;
+
+    // Percentages of Features required to meet each Stopping Criteria.
+    private double residencePercentage;
+    private double familyPercentage;
+    private double rulerPercentage;
+
+    // Amount of each Feature generated initially and whenever an Iteration generates no new Features.
+    private int batchNPCs;
+    private int batchSettlements;
+
+    // Amount of candidate NPCs at which Family checks are run in parallel.
+    private int parallelFilterThreshold;
+
+    private long seed;  // The Seed every Random Stream of the Generation is split from.
+
+    /**
+     * Constructor for a config with the default values.
+     */
+    public WorldGenerationConfig() {
+        maxNPCs = DEFAULT_MAX_NPCS;
+        maxSettlements = DEFAULT_MAX_SETTLEMENTS;
+        residencePercentage = DEFAULT_RESIDENCE_PERCENTAGE;
+        familyPercentage = DEFAULT_FAMILY_PERCENTAGE;
+        rulerPercentage = DEFAULT_RULER_PERCENTAGE;
+        batchNPCs = DEFAULT_BATCH_NPCS;
+        batchSettlements = DEFAULT_BATCH_SETTLEMENTS;
+        parallelFilterThreshold = DEFAULT_PARALLEL_FILTER_THRESHOLD;
+        seed = Randomiser.newSeed();
+    }
+
+    /**
+     * Constructor for a copy of another config, such as to give each World of a batch its own Seed.
+     * @param other The config to copy.
+     */
+    public WorldGenerationConfig(WorldGenerationConfig other) {
+        maxNPCs = other.maxNPCs;
+        maxSettlements = other.maxSettlements;
+        residencePercentage = other.residencePercentage;
+        familyPercentage = other.familyPercentage;
+        rulerPercentage = other.rulerPercentage;
+        batchNPCs = other.batchNPCs;
+        batchSettlements = other.batchSettlements;
+        parallelFilterThreshold = other.parallelFilterThreshold;
+        seed = other.seed;
+    }
+
+    /**
+     * Checks a percentage is between 0 and 1.
+     * @param percentage The percentage to check.
+     * @param name The name of the setting for the Exception message.
+     */
+    private static void checkPercentage(double percentage, String name) {
+        if (percentage < 0 || percentage > 1) {
+            throw new IllegalArgumentException(name + " must be between 0 and 1, was " + percentage);
+        }
+    }
+
+    /**
+     * Checks an amount is not negative.
+     * @param amount The amount to check.
+     * @param name The name of the setting for the Exception message.
+     */
+    private static void checkNotNegative(int amount, String name) {
+        if (amount < 0) {
+            throw new IllegalArgumentException(name + " must not be negative, was " + amount);
+        }
+    }
+
+    /**
+     * Checks a batch Generates at least one Feature, as otherwise the Stopping Criteria can never change.
+     * @param batchNPCs The amount of NPCs per batch.
+     * @param batchSettlements The amount of Settlements per batch.
+     */
+    private static void checkBatch(int batchNPCs, int batchSettlements) {
+        if (batchNPCs == 0 && batchSettlements == 0) {
+            throw new IllegalArgumentException("Batch NPCs and Batch Settlements must not both be 0");
+        }
+    }
+
+    /* Getters and Setters */
+
+    /**
+     * Returns the amount of NPCs above which Iterative Generation stops.
+     * @return The maximum amount of NPCs.
+     */
+    public int getMaxNPCs() {
+        return maxNPCs;
+    }
+
+    /**
+     * Sets the amount of NPCs above which Iterative Generation stops.
+     * @param maxNPCs The maximum amount of NPCs.
+     */
+    public void setMaxNPCs(int maxNPCs) {
+        checkNotNegative(maxNPCs, "Max NPCs");
+        this.maxNPCs = maxNPCs;
+    }
+
+    /**
+     * Returns the amount of Settlements above which Iterative Generation stops.
+     * @return The maximum amount of Settlements.
+     */
+    public int getMaxSettlements() {
+        return maxSettlements;
+    }
+
+    /**
+     * Sets the amount of Settlements above which Iterative Generation stops.
+     * @param maxSettlements The maximum amount of Settlements.
+     */
+    public void setMaxSettlements(int maxSettlements) {
+        checkNotNegative(maxSettlements, "Max Settlements");
+        this.maxSettlements = maxSettlements;
+    }
+
+    /**
+     * Returns the percentage of NPCs that must have a Residence.
+     * @return The percentage between 0 and 1.
+     */
+    public double getResidencePercentage() {
+        return residencePercentage;
+    }
+
+    /**
+     * Sets the percentage of NPCs that must have a Residence.
+     * @param residencePercentage The percentage between 0 and 1.
+     */
+    public void setResidencePercentage(double residencePercentage) {
+        checkPercentage(residencePercentage, "Residence percentage");
+        this.residencePercentage = residencePercentage;
+    }
+
+    /**
+     * Returns the percentage of NPCs that must have more than two Family Members.
+     * @return The percentage between 0 and 1.
+     */
+    public double getFamilyPercentage() {
+        return familyPercentage;
+    }
+
+    /**
+     * Sets the percentage of NPCs that must have more than two Family Members.
+     * @param familyPercentage The percentage between 0 and 1.
+     */
+    public void setFamilyPercentage(double familyPercentage) {
+        checkPercentage(familyPercentage, "Family percentage");
+        this.familyPercentage = familyPercentage;
+    }
+
+    /**
+     * Returns the percentage of Settlements that must have a Ruler.
+     * @return The percentage between 0 and 1.
+     */
+    public double getRulerPercentage() {
+        return rulerPercentage;
+    }
+
+    /**
+     * Sets the percentage of Settlements that must have a Ruler.
+     * @param rulerPercentage The percentage between 0 and 1.
+     */
+    public void setRulerPercentage(double rulerPercentage) {
+        checkPercentage(rulerPercentage, "Ruler percentage");
+        this.rulerPercentage = rulerPercentage;
+    }
+
+    /**
+     * Returns the amount of NPCs generated in each batch.
+     * @return The amount of NPCs per batch.
+     */
+    public int getBatchNPCs() {
+        return batchNPCs;
+    }
+
+    /**
+     * Sets the amount of NPCs generated in each batch, which may only be 0 if Settlements are generated.
+     * @param batchNPCs The amount of NPCs per batch.
+     */
+    public void setBatchNPCs(int batchNPCs) {
+        checkNotNegative(batchNPCs, "Batch NPCs");
+        checkBatch(batchNPCs, batchSettlements);
+        this.batchNPCs = batchNPCs;
+    }
+
+    /**
+     * Returns the amount of Settlements generated in each batch.
+     * @return The amount of Settlements per batch.
+     */
+    public int getBatchSettlements() {
+        return batchSettlements;
+    }
+
+    /**
+     * Sets the amount of Settlements generated in each batch, which may only be 0 if NPCs are generated.
+     * @param batchSettlements The amount of Settlements per batch.
+     */
+    public void setBatchSettlements(int batchSettlements) {
+        checkNotNegative(batchSettlements, "Batch Settlements");
+        checkBatch(batchNPCs, batchSettlements);
+        this.batchSettlements = batchSettlements;
+    }
+
+    /**
+     * Returns the amount of candidate NPCs at which Family checks are run in parallel.
+     * @return The parallel filtering threshold.
+     */
+    public int getParallelFilterThreshold() {
+        return parallelFilterThreshold;
+    }
+
+    /**
+     * Sets the amount of candidate NPCs at which Family checks are run in parallel.
+     * @param parallelFilterThreshold The parallel filtering threshold, or Integer.MAX_VALUE to never run in parallel.
+     */
+    public void setParallelFilterThreshold(int parallelFilterThreshold) {
+        checkNotNegative(parallelFilterThreshold, "Parallel filter threshold");
+        this.parallelFilterThreshold = parallelFilterThreshold;
+    }
+
+    /**
+     * Returns the Seed of the Generation. The same Seed and settings always Generate the same World.
+     * @return The Seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Sets the Seed of the Generation, such as to Generate a previous World again.
+     * @param seed The Seed.
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+}
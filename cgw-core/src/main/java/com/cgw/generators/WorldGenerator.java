@@ -8,17 +8,18 @@ import org.apache.commons.lang3.tuple.Triple;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import com.cgw.relationships.Relationship;
+import com.cgw.relationships.RelationshipLabel;
 
 import java.io.*;
 import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.Random;
 import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
 import java.util.stream.Collectors;
 
 /**
- * Generator Class for the World. Used to call the Feature Manager and Relationship Generator Singleton instances
+ * Generator Class for the World. Used to call the Feature Manager and Relationship Generator of its Generation Context
  * and perform the different parts of the World generation; Initial, Iterative, and Final generations.
+ * Each World Generator Generates one World, and many can Generate at once on different Threads.
  * @author Luke Burston
  * @author lb800@kent.ac.uk
  * @version 0.1
@@ -26,22 +27,28 @@ import java.util.stream.Collectors;
  */
 public class WorldGenerator {
 
-	// Singleton instances of itself, the Feature Manager, Relationship Generator.
-	private static WorldGenerator worldGenerator = null;
-	private static final FeatureManager featureManager = FeatureManager.getFeatureManager();
-	private static final RelationshipGenerator relationshipGenerator = RelationshipGenerator.getRelationshipGenerator();
+	// Possible World names, imported once and shared by every World Generator.
+	private static final ArrayList<String> worldNames = new ArrayList<>();
 
-	// Random object to be used. Gets from static class for testing purposes.
-	private static final Random randNum = Randomiser.getRandom();
+	static {
+		importWorldNames();
+	}
+
+	// The Generation Context of the World, and its Feature Manager and Relationship Generator.
+	private final GenerationContext context;
+	private final FeatureManager featureManager;
+	private final RelationshipGenerator relationshipGenerator;
 
-	// Initial Features to be generated in iteration.
-	private static final int INITIAL_NPCS = 20;
-	private static final int INITIAL_SETTLEMENTS = 1;
+	// Random Generator used to name the World, a Stream from the World's Seed.
+	private final RandomGenerator randNum;
 
 	private final World world;	// Model of the World that is Generated, Features and Relationships saved to here.
 	private boolean finished;	// Used to check if the generator has finished producing the World.
 	private static final boolean testing = false; // Prints details of Generation and World to console when testing.
 	private int iterationCounter; // Measure iterations for testing.
+	private final WorldGenerationConfig config;	// Size limits, Stopping Criteria and batch sizes of the Generation.
+	private GenerationProgressPublisher progress;	// Publishes the Progress of Generation, only made if asked for.
+	private long startNanos;	// When Generation started, for the time elapsed in Progress.
 
 	/**
 	 * Main method used when only running World Generator with no Application, for internal testing.
@@ -52,7 +59,7 @@ public class WorldGenerator {
 		StopWatch watch = new StopWatch();
 		watch.start();
 
-		WorldGenerator wg = getWorldGenerator();
+		WorldGenerator wg = new WorldGenerator();
 		World generatedWorld = wg.generateWorldTest();
 
 		if (testing) {
@@ -62,10 +69,11 @@ public class WorldGenerator {
 			wg.printOutFamilyStates(generatedWorld);
 			System.out.println();
 			System.out.println("~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~");
-			System.out.println("Time to Generate World: " + (watch.getTime(TimeUnit.MILLISECONDS)/1000) + "ms");
+			System.out.println("Time to Generate World: " + watch.getTime(TimeUnit.MILLISECONDS) + "ms");
 			// Information of any killed/killer relationships to check none are generated in research release.
 			int victims = (int) generatedWorld.getRelationships().stream()
-					.filter(relationship -> relationship.getPredicateAtoB().getPredicateString().matches("killed|killer")).count();
+					.filter(relationship -> relationship.getPredicateAtoB().getLabel() == RelationshipLabel.KILLED ||
+							relationship.getPredicateAtoB().getLabel() == RelationshipLabel.KILLER).count();
 			System.out.println("Victims: " + victims);
 		} else {
 			watch.stop();
@@ -73,48 +81,60 @@ public class WorldGenerator {
 	}
 
 	/**
-	 * Constructor for the World Generator. Sets the World for other Generators and ensures finished is set to false.
+	 * Constructor for a World Generator with the default settings and a new random Seed.
 	 */
-	private WorldGenerator() {
-		finished = false;
-		world = new World();
-		featureManager.setWorld(world);
-		relationshipGenerator.setWorld(world);
-		world.setName(generateName());	// Gives the World a name.
+	public WorldGenerator() {
+		this(new WorldGenerationConfig());
 	}
 
 	/**
-	 * Used to get the Singleton instance of the World Generator.
-	 * @return This Singleton instance of the World Generator.
+	 * Constructor for a World Generator with a new Generation Context of the given settings.
+	 * @param config The size limits, Stopping Criteria, batch sizes and Seed of the Generation.
 	 */
-	public static WorldGenerator getWorldGenerator() {
-		if(worldGenerator == null) {
-			worldGenerator = new WorldGenerator();
-		}
-		return worldGenerator;
+	public WorldGenerator(@NotNull WorldGenerationConfig config) {
+		this(new GenerationContext(config));
 	}
 
 	/**
-	 * Randomly chooses a World name from the txt file of possible names.
-	 * @return A String of the World's name.
+	 * Constructor for the World Generator of a Generation Context. Ensures finished is set to false.
+	 * @param context The Generation Context with the empty World to Generate.
 	 */
-	private String generateName() {
-		ArrayList<String> names = new ArrayList<>();
+	public WorldGenerator(@NotNull GenerationContext context) {
+		finished = false;
+		this.context = context;
+		config = context.getConfig();
+		world = context.getWorld();
+		featureManager = context.getFeatureManager();
+		relationshipGenerator = context.getRelationshipGenerator();
+		randNum = context.getRandomStreams().getStream(RandomStreams.Stream.WORLD);
+	}
+
+	/**
+	 * Imports the txt file of possible World names. Called once, when the class is first used.
+	 */
+	private static void importWorldNames() {
 		try {
 			// Gets the txt file from resources and adds each line to an ArrayList
-			InputStream is = getClass().getResourceAsStream("/worldNames/worldNames.txt");
+			InputStream is = WorldGenerator.class.getResourceAsStream("/worldNames/worldNames.txt");
 			assert is != null;
 			BufferedReader reader = new BufferedReader(new
 					InputStreamReader(is));
 			String currentLine;
 			while((currentLine = reader.readLine()) != null) {
-				names.add(currentLine);
+				worldNames.add(currentLine);
 			}
 		} catch (IOException e) {
 			throw new RuntimeException(e);
 		}
+	}
+
+	/**
+	 * Randomly chooses a World name from the possible names.
+	 * @return A String of the World's name.
+	 */
+	private String generateName() {
 		// Chooses a name at random from the ArrayList.
-		return names.get(randNum.nextInt(names.size()));
+		return worldNames.get(randNum.nextInt(worldNames.size()));
 	}
 
 	/**
@@ -125,24 +145,72 @@ public class WorldGenerator {
 	 * This loops making new Relationships and Features until one of the Stopping Criteria has been met.
 	 * Once the Stopping Criteria is met, the final Relationship Generations are completed, which
 	 * does not make any new Features, only makes more Relationships between existing Features.
+	 * Uses the size limits, Stopping Criteria, batch sizes and Seed of the Generation Context's config.
+	 * @throws GenerationFailureException Thrown if Generation fails during an Iteration.
 	 */
 	public void generateWorld() throws GenerationFailureException {
 		finished = false;
-		ArrayList<Feature> newFeatures = initialGeneration();
-		do {
-			if(newFeatures == null) {
-				throw new GenerationFailureException("List of the new features provided in Iteration was Null.");
-			} else if (newFeatures.isEmpty()){
-				newFeatures = featureManager.generateFeatures(INITIAL_NPCS, INITIAL_SETTLEMENTS);
-			}
+		startNanos = System.nanoTime();
+		try {
+			world.setName(generateName());	// Gives the World a name.
+			ArrayList<Feature> newFeatures = initialGeneration();
+			int iteration = 0;
+			publishProgress(GenerationProgress.Stage.INITIAL, iteration);
+			do {
+				if(newFeatures == null) {
+					throw new GenerationFailureException("List of the new features provided in Iteration was Null.");
+				} else if (newFeatures.isEmpty()){
+					newFeatures = featureManager.generateFeatures(config.getBatchNPCs(), config.getBatchSettlements());
+				}
 
-			newFeatures = iterativeGeneration(newFeatures);
+				newFeatures = iterativeGeneration(newFeatures);
+				publishProgress(GenerationProgress.Stage.ITERATION, ++iteration);
 
-		} while (stoppingCriteriaNotMet());
+			} while (stoppingCriteriaNotMet());
 
-		finalGenerations();
+			publishProgress(GenerationProgress.Stage.FINAL, iteration);
+			finalGenerations(iteration);
 
-		finished = true;
+			finished = true;
+			publishProgress(GenerationProgress.Stage.FINISHED, iteration);
+		} catch (GenerationFailureException | RuntimeException ex) {
+			if(progress != null) { progress.closeExceptionally(ex); }
+			throw ex;
+		}
+		if(progress != null) { progress.close(); }
+	}
+
+	/**
+	 * Returns the Publisher of this Generator's Progress, to Subscribe to before Generating. Snapshots are published
+	 * after the Initial Generation, each Iteration, and the Final Generations, then the Publisher is closed.
+	 * @return The Progress Publisher.
+	 */
+	public GenerationProgressPublisher getProgress() {
+		if(progress == null) {
+			progress = new GenerationProgressPublisher();
+		}
+		return progress;
+	}
+
+	/**
+	 * Sets the Publisher of this Generator's Progress, such as one with a different interval between snapshots.
+	 * @param progress The Progress Publisher.
+	 */
+	public void setProgress(@NotNull GenerationProgressPublisher progress) {
+		this.progress = progress;
+	}
+
+	/**
+	 * Publishes a snapshot of the Generation so far, if anything has Subscribed to the Progress.
+	 * Nothing is made at all while there are no Subscribers, and a snapshot is only made if the Publisher would
+	 * publish it, so counting the World costs nothing between intervals.
+	 * @param stage The stage of Generation just finished.
+	 * @param iteration Iterations of the Iterative Generation finished.
+	 */
+	private void publishProgress(GenerationProgress.Stage stage, int iteration) {
+		if(progress != null && progress.hasSubscribers() && progress.accepts(stage)) {
+			progress.publish(new GenerationProgress(stage, iteration, world, System.nanoTime() - startNanos));
+		}
 	}
 
 
@@ -151,19 +219,20 @@ public class WorldGenerator {
 	 * @return The World generated.
 	 */
 	private World generateWorldTest() {
+		world.setName(generateName());
 		ArrayList<Feature> newFeatures = initialGeneration();
 		do {
 			if(newFeatures == null) {
 				throw new RuntimeException();
 			} else if (newFeatures.isEmpty()){
-				newFeatures = featureManager.generateFeatures(INITIAL_NPCS, INITIAL_SETTLEMENTS);
+				newFeatures = featureManager.generateFeatures(config.getBatchNPCs(), config.getBatchSettlements());
 			}
 
 			newFeatures = iterativeGeneration(newFeatures);
 
 		} while (stoppingCriteriaNotMet());
 
-		finalGenerations();
+		finalGenerations(iterationCounter);
 		return world;
 	}
 
@@ -177,8 +246,8 @@ public class WorldGenerator {
 		try {
 			// Generates a number of Features of each type and saves them to the World.
 			world.saveFeatures(featureManager
-					.generateFeatures(INITIAL_NPCS,
-							INITIAL_SETTLEMENTS));
+					.generateFeatures(config.getBatchNPCs(),
+							config.getBatchSettlements()));
 			// Creates an ArrayList to store any Relationships that are incomplete.
 			ArrayList<Relationship> unfinishedRelationships = new ArrayList<>();
 			// Each Initial Feature is either given a complete or unfinished Relationship, or none at all.
@@ -249,14 +318,11 @@ public class WorldGenerator {
 	 * Final Generations for the Generator to complete after Stopping Criteria met. All unfinished Relationships
 	 * are removed completely. Any Features with a low amount of Relationships are added to a List and for
 	 * 5 iterations are potentially given more Relationships with existing Features.
+	 * @param iteration Iterations of the Iterative Generation finished, for the Progress of each final iteration.
 	 */
-	private void finalGenerations() {
+	private void finalGenerations(int iteration) {
 		// Removes all unfinished Relationships to clear space.
-		Iterator<Relationship> unfinishedRelationshipsIterator = world.getUnfinishedRelationships().iterator();
-		while (unfinishedRelationshipsIterator.hasNext()) {
-			unfinishedRelationshipsIterator.next();
-			unfinishedRelationshipsIterator.remove();
-		}
+		world.clearUnfinishedRelationships();
 
 		// Looks for any Features with less than 3 Relationships to try and Link them with other Features.
 		ArrayList<Feature> featuresWithLowRelationships = new ArrayList<>();
@@ -281,6 +347,7 @@ public class WorldGenerator {
 					ex.printStackTrace();
 				}
 			}
+			publishProgress(GenerationProgress.Stage.FINAL, iteration);
 		}
 	}
 
@@ -289,59 +356,44 @@ public class WorldGenerator {
 	 * @return Boolean of whether Stopping Criteria has not been met.
 	 */
 	private boolean stoppingCriteriaNotMet() {
-		ArrayList<NPC> npcs = (ArrayList<NPC>) world.getAllOfSpecificFeature(NPC.class);
-		ArrayList<Settlement> settlements = (ArrayList<Settlement>) world.getAllOfSpecificFeature(Settlement.class);
-
 		// Checks the various Stopping Criteria which can be added to.
-		// Currently, checks if NPCs or Settlements have exceeded their limits,
+		// Currently, checks if NPCs or Settlements have exceeded their limits, using the World's running counts,
 		// as well as other checks that all have to be met.
-		return npcs.size() <= 800 && settlements.size() <= 20 &&
-				(!almostEveryNPCHasAResidence(npcs) || !almostAllNPCsHaveMoreThanTwoFamilyMembers(npcs)
-						|| !everySettlementHasARuler(settlements));
+		if(world.numberOfNPCs() > config.getMaxNPCs() || world.numberOfSettlements() > config.getMaxSettlements()) {
+			return false;
+		}
+		return !almostEveryNPCHasAResidence() || !almostAllNPCsHaveMoreThanTwoFamilyMembers()
+						|| !everySettlementHasARuler();
 	}
 
 	/**
 	 * Checks if the amount of NPCs that have a Residence exceeds the specified percentage.
-	 * @param npcs The NPCs of the World to check.
 	 * @return Boolean of whether the amount of NPCs exceeds the specified percentage.
 	 */
-	private boolean almostEveryNPCHasAResidence(ArrayList<NPC> npcs) {
-		double percentage = 0.9;	// Percentage of NPCs required.
-		int passingSize = (int) Math.round(npcs.size()*percentage);	// Amount of NPCs required.
-		int counter = 0;	// Counts those that have a Residence.
-		for(NPC npc : npcs) {
-			if(npc.hasResidence()) { counter++; }
-		}
-		return counter >= passingSize;
+	private boolean almostEveryNPCHasAResidence() {
+		double percentage = config.getResidencePercentage();	// Percentage of NPCs required.
+		int passingSize = (int) Math.round(world.numberOfNPCs()*percentage);	// Amount of NPCs required.
+		return world.numberOfNPCsWithResidence() >= passingSize;
 	}
 
 	/**
 	 * Checks if the amount of NPCs that have more than two Family Members exceeds the specified percentage.
-	 * @param npcs The NPCs of the World to check.
 	 * @return Boolean of whether the amount of NPCs exceeds the specified percentage.
 	 */
-	private boolean almostAllNPCsHaveMoreThanTwoFamilyMembers(@NotNull ArrayList<NPC> npcs) {
-		double percentage = 0.95;	// Percentage of NPCs required.
-		int passingSize = (int) Math.round(npcs.size()*percentage);	// Amount of NPCs required.
-		int counter = 0;	// Counts those with more than two Family Members.
-		for(NPC npc : npcs) {
-			if (npc.getFamilyMembers().size() > 2) {
-				counter++;
-			}
-		}
-		return counter >= passingSize;
+	private boolean almostAllNPCsHaveMoreThanTwoFamilyMembers() {
+		double percentage = config.getFamilyPercentage();	// Percentage of NPCs required.
+		int passingSize = (int) Math.round(world.numberOfNPCs()*percentage);	// Amount of NPCs required.
+		return world.numberOfNPCsWithMoreThanTwoFamilyMembers() >= passingSize;
 	}
 
 	/**
-	 * Checks if every Settlement has a Ruler.
-	 * @param settlements The Settlements of the World to check.
-	 * @return Boolean of whether every Settlement has a Ruler.
+	 * Checks if the amount of Settlements that have a Ruler exceeds the specified percentage (every Settlement by default).
+	 * @return Boolean of whether the amount of Settlements exceeds the specified percentage.
 	 */
-	private boolean everySettlementHasARuler(@NotNull ArrayList<Settlement> settlements) {
-		for(Settlement settlement : settlements) {
-			if(!settlement.hasRuler()) {return false;}
-		}
-		return true;
+	private boolean everySettlementHasARuler() {
+		double percentage = config.getRulerPercentage();	// Percentage of Settlements required.
+		int passingSize = (int) Math.round(world.numberOfSettlements()*percentage);	// Amount of Settlements required.
+		return world.numberOfSettlementsWithRuler() >= passingSize;
 	}
 
 	/**
@@ -365,7 +417,7 @@ public class WorldGenerator {
         System.out.println("Settlements:\t" + world.getAllOfSpecificFeature(Settlement.class).size());
 		System.out.println();
 		System.out.println("## Number of Relationships ##");
-		System.out.println("Relationships:\t" + world.getRelationships().size());
+		System.out.println("Relationships:\t" + world.numberOfRelationships());
 	}
 
 	/**
@@ -373,7 +425,7 @@ public class WorldGenerator {
 	 * @param world The World to print from.
 	 */
 	private void printOutFamilyStates(World world) {
-		for (NPC npc : (ArrayList<NPC>) world.getAllOfSpecificFeature(NPC.class)) {
+		for (NPC npc : world.getAllOfSpecificFeature(NPC.class)) {
 			System.out.println("--- " + npc.getName() + " ---");
 			System.out.println(npc);
 			System.out.println();
@@ -400,6 +452,14 @@ public class WorldGenerator {
 		return world;
 	}
 
+	/**
+	 * Gets the Generation Context of the World, with its settings and Generators.
+	 * @return The Generation Context.
+	 */
+	public GenerationContext getContext() {
+		return context;
+	}
+
 	/**
 	 * Checks if the World is Finished Generating.
 	 * @return Boolean of whether the World has finished Generating.
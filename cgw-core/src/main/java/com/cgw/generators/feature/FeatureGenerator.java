@@ -2,11 +2,10 @@ package com.cgw.generators.feature;
 
 import com.cgw.exceptions.GenerationFailureException;
 import com.cgw.features.Feature;
-import com.cgw.generators.Randomiser;
 import com.cgw.relationships.Predicate;
 import com.cgw.relationships.Relationship;
 
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * The Superclass of the different Feature Generators.
@@ -18,19 +17,17 @@ import java.util.Random;
 public abstract class FeatureGenerator {
 
     /**
-     * Gets a Random object from the Randomiser.
+     * The Random Generator of this Generator, a Stream from the Seed of the World being Generated.
      */
-    protected static final Random randNum = Randomiser.getRandom();
+    protected final RandomGenerator randNum;
 
     /**
-     * Constructor of the Feature Generator, but is not called.
+     * Constructor of the Feature Generator, called by the Subclasses with their Stream.
+     * @param randNum The Random Generator for the Subclass to use.
      */
-    public FeatureGenerator() {}
-
-    /**
-     * Required method for Subclasses for importing their resources.
-     */
-    abstract protected void importResources();
+    public FeatureGenerator(RandomGenerator randNum) {
+        this.randNum = randNum;
+    }
 
     /**
      * Required method for Subclasses that Generates a Feature, returns it and can throw an Exception.
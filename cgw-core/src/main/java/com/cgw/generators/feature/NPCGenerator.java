@@ -1,6 +1,9 @@
 package com.cgw.generators.feature;
 
 import com.cgw.exceptions.GenerationFailureException;
+import com.cgw.generators.AliasSampler;
+import com.cgw.generators.GenerationContext;
+import com.cgw.generators.RandomStreams;
 import org.jetbrains.annotations.NotNull;
 import com.cgw.relationships.Predicate;
 import com.cgw.relationships.Relationship;
@@ -8,7 +11,10 @@ import com.cgw.features.*;
 
 import java.io.*;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * A Generator for NPCs.
@@ -19,60 +25,55 @@ import java.util.HashMap;
  */
 public class NPCGenerator extends FeatureGenerator {
 
-    // Singleton instance of itself.
-    private static NPCGenerator npcGenerator = null;
-
     // The imported races and details of their age group thresholds.
-    private final ArrayList<String> races;
-    private final HashMap<String, int[]> raceDetails;
+    // Resources are imported once and never changed, so are shared by the NPC Generator of every World.
+    private static final ArrayList<String> races = new ArrayList<>();
+    private static final HashMap<String, int[]> raceDetails = new HashMap<>();
 
     // The ArrayLists of different types of names.
-    private final ArrayList<String> firstNamesFemale;
-    private final ArrayList<String> firstNamesMale;
-    private final ArrayList<String> lastNames;
-
-    private final ArrayList<String> usedNames;  // Stores assigned names
+    private static final ArrayList<String> firstNamesFemale = new ArrayList<>();
+    private static final ArrayList<String> firstNamesMale = new ArrayList<>();
+    private static final ArrayList<String> lastNames = new ArrayList<>();
 
-    /**
-     * Constructor for the NPC Generator to create a random
-     * number generator and to import all the resources.
-     */
-    private NPCGenerator() {
-        raceDetails = new HashMap<>();
-        races = new ArrayList<>();
+    static {
+        importResources();
+    }
 
-        firstNamesFemale = new ArrayList<>();
-        firstNamesMale = new ArrayList<>();
-        lastNames = new ArrayList<>();
+    private final NameRegistry nameRegistry;  // Stores assigned names, shared with the other Generators of the World.
 
-        usedNames = new ArrayList<>();
+    // The chances of each Gender and Age Group, which never change so are chosen with Alias Samplers.
+    private static final char[] GENDERS = {'f', 'm', 'n'};             // Female, Male, Non-Binary
+    private static final AliasSampler GENDER_SAMPLER = new AliasSampler(45, 45, 10);
+    private static final char[] AGE_GROUPS = {'a', 'e', 't', 'c'};     // Adult, Elderly, Adolescent/Teen, Child
+    private static final AliasSampler AGE_GROUP_SAMPLER = new AliasSampler(80, 15, 4, 1);
 
-        importResources();
-    }
+    // Random orders of every First and Last name combination for each Gender's First names,
+    // created when first needed from the World's Seed.
+    private NamePermutation femaleNameOrder;
+    private NamePermutation maleNameOrder;
 
     /**
-     * Returns this Generator, or creates a new one if it hasn't been set up yet.
-     * @return The NPC Generator Singleton.
+     * Constructor for the NPC Generator of a World, using the NPC Stream and Name Registry of its Context.
+     * @param context The Generation Context of the World.
      */
-    public static NPCGenerator getNPCGenerator() {
-        if(npcGenerator == null) {
-            npcGenerator = new NPCGenerator();
-        }
-        return npcGenerator;
+    public NPCGenerator(@NotNull GenerationContext context) {
+        super(context.getRandomStreams().getStream(RandomStreams.Stream.NPCS));
+        nameRegistry = context.getNameRegistry();
     }
 
     /**
      * Imports all the Resource txt files into ArrayLists and HashMaps,
      * by reading the txt file line by line and saving it to its respective field.
+     * Called once, when the NPC Generator class is first used.
      */
-    protected void importResources() {
+    private static void importResources() {
         String resourceLocation = "/npc/";
         BufferedReader reader;
         String currentLine;
 
         /* Import races */
         try {
-            InputStream is = getClass().getResourceAsStream(resourceLocation + "npcRace.txt");
+            InputStream is = NPCGenerator.class.getResourceAsStream(resourceLocation + "npcRace.txt");
             assert is != null;
             reader = new BufferedReader(new
                     InputStreamReader(is));
@@ -96,7 +97,7 @@ public class NPCGenerator extends FeatureGenerator {
         /* Import names */
         try {
             /* Import First Names (Female) */
-            InputStream is1 = getClass().getResourceAsStream(resourceLocation + "npcFirstNamesFemale.txt");
+            InputStream is1 = NPCGenerator.class.getResourceAsStream(resourceLocation + "npcFirstNamesFemale.txt");
             assert is1 != null;
             reader = new BufferedReader(new
                     InputStreamReader(is1));
@@ -104,7 +105,7 @@ public class NPCGenerator extends FeatureGenerator {
                 firstNamesFemale.add(currentLine);
             }
             /* Import First Names (Male) */
-            InputStream is2 = getClass().getResourceAsStream(resourceLocation + "npcFirstNamesMale.txt");
+            InputStream is2 = NPCGenerator.class.getResourceAsStream(resourceLocation + "npcFirstNamesMale.txt");
             assert is2 != null;
             reader = new BufferedReader(new
                     InputStreamReader(is2));
@@ -112,7 +113,7 @@ public class NPCGenerator extends FeatureGenerator {
                 firstNamesMale.add(currentLine);
             }
             /* Import Last Names */
-            InputStream is3 = getClass().getResourceAsStream(resourceLocation + "npcLastNames.txt");
+            InputStream is3 = NPCGenerator.class.getResourceAsStream(resourceLocation + "npcLastNames.txt");
             assert is3 != null;
             reader = new BufferedReader(new
                     InputStreamReader(is3));
@@ -154,9 +155,9 @@ public class NPCGenerator extends FeatureGenerator {
      * @throws GenerationFailureException Exception for Failure to Generate NPC.
      */
     public NPC generateFeatureFromRelationship(@NotNull Relationship relationship, Predicate predicateBtoA) throws GenerationFailureException {
-        switch (predicateBtoA.getPredicateString()) {
-            case "resident" -> { return generateRandomFeature(); }
-            case "ruler", "partner", "killed", "killer" -> {
+        switch (predicateBtoA.getLabel()) {
+            case RESIDENT -> { return generateRandomFeature(); }
+            case RULER, PARTNER, KILLED, KILLER -> {
                 try {
                     // For generating a Ruler, Partner, Victim, or Killer.
                     NPC currentNPC = new NPC();
@@ -178,7 +179,7 @@ public class NPCGenerator extends FeatureGenerator {
                     throw new GenerationFailureException("Unable to Generate NPC");
                 }
             }
-            case "parent" -> {
+            case PARENT -> {
                 // For Generating a Parent.
                 try {
                     NPC child = (NPC) relationship.getFeatureA();
@@ -207,19 +208,8 @@ public class NPCGenerator extends FeatureGenerator {
                         currentNPC.setGender(assignGender());
                     }
 
-                    // Generates a new name with the last name of the Child.
-                    // Checks 5000 times if generated name does not already exist.
-                    String name = "";
-                    int safetyCheck = 5000;
-                    while(name.isEmpty()) {
-                        name = generateFirstName(currentNPC.getGender());
-                        name += " " + child.getName().split(" ")[1];
-                        if(usedNames.contains(name) && safetyCheck > 0) {
-                            name = "";
-                            safetyCheck--;
-                        }
-                    }
-                    currentNPC.setName(name);
+                    // Generates a new unused name with the last name of the Child.
+                    currentNPC.setName(generateUniqueName(currentNPC.getGender(), child.getName().split(" ")[1]));
 
                     // Gives the new Parent an age that is old enough to be the Parent of the oldest Sibling.
                     int eldestSiblingAge = child.eldestSiblingAge();
@@ -252,7 +242,7 @@ public class NPCGenerator extends FeatureGenerator {
                     throw new GenerationFailureException("Unable to Generate NPC");
                 }
             }
-            case "child" -> {
+            case CHILD -> {
                 // For Generating a Child.
                 try {
                     NPC parent = (NPC) relationship.getFeatureA();
@@ -261,19 +251,8 @@ public class NPCGenerator extends FeatureGenerator {
                     currentNPC.setRace(parent.getRace());
                     currentNPC.setGender(assignGender());
 
-                    // Generates a new name with the last name of the Parent.
-                    // Checks 5000 times if generated name does not already exist.
-                    String name = "";
-                    int safetyCheck = 5000;
-                    while(name.isEmpty()) {
-                        name = generateFirstName(currentNPC.getGender());
-                        name += " " + parent.getName().split(" ")[1];
-                        if(usedNames.contains(name) && safetyCheck > 0) {
-                            name = "";
-                            safetyCheck--;
-                        }
-                    }
-                    currentNPC.setName(name);
+                    // Generates a new unused name with the last name of the Parent.
+                    currentNPC.setName(generateUniqueName(currentNPC.getGender(), parent.getName().split(" ")[1]));
 
                     // Sets the age of the Child to be less than that of the Parent's age minus their adult threshold.
                     int maxAge = parent.getAge() - raceDetails.get(parent.getRace())[1];
@@ -302,7 +281,7 @@ public class NPCGenerator extends FeatureGenerator {
                     throw new GenerationFailureException("Unable to Generate NPC");
                 }
             }
-            case "sibling" -> {
+            case SIBLING -> {
                 // For Generating a Sibling.
                 try {
                     NPC originalSibling = (NPC) relationship.getFeatureA();
@@ -311,19 +290,8 @@ public class NPCGenerator extends FeatureGenerator {
                     currentNPC.setRace(originalSibling.getRace());  // Sets race to be the same as the Sibling.
                     currentNPC.setGender(assignGender());
 
-                    // Generates a new name with the last name of the Parent.
-                    // Checks 5000 times if generated name does not already exist.
-                    String name = "";
-                    int safetyCheck = 5000;
-                    while(name.isEmpty()) {
-                        name = generateFirstName(currentNPC.getGender());
-                        name += " " + originalSibling.getName().split(" ")[1];
-                        if(usedNames.contains(name) && safetyCheck > 0) {
-                            name = "";
-                            safetyCheck--;
-                        }
-                    }
-                    currentNPC.setName(name);
+                    // Generates a new unused name with the last name of the Parent.
+                    currentNPC.setName(generateUniqueName(currentNPC.getGender(), originalSibling.getName().split(" ")[1]));
 
                     // Sets age group to be the same as the Sibling.
                     currentNPC.setAgeGroup(originalSibling.getAgeGroup());
@@ -363,8 +331,7 @@ public class NPCGenerator extends FeatureGenerator {
 
                         if(youngestPossibleAge == oldestPossibleAge) {
                             // If there is only one age they can be, sets it to that
-                            currentNPC.setAge(
-                                    randNum.nextInt(youngestPossibleAge));
+                            currentNPC.setAge(youngestPossibleAge);
                         } else if (oldestPossibleAge < currentNPCRaceDetails[maxAgeGroupIndex]){
                             // If the oldestPossibleAge from Parents is younger than that max for their age group,
                             // sets the eldest possible age as age group.
@@ -404,43 +371,106 @@ public class NPCGenerator extends FeatureGenerator {
      * @return A char to represent the gender.
      */
     private char assignGender() {
-        int genderNum = randNum.nextInt(100);
-        if (genderNum < 45) { return 'f'; }     // Female
-        else if (genderNum < 90) { return 'm'; }// Male
-        else { return 'n'; }                    // Non-Binary
+        return GENDERS[GENDER_SAMPLER.sample(randNum)];
     }
 
     /**
-     * Assigns a full name to the newly generated NPC based on their Gender.
+     * Assigns a full name to the newly generated NPC based on their Gender, which hasn't already been used.
      * @param gender gender of the NPC.
      * @return A String of the full name of the NPC.
      */
     private String assignFullName(char gender) {
-        String name = "";
-        int safetyCheck = 5000;
-        // Generates name and checks if it has already been generated.
-        while (name.isEmpty()) {
-            // Assign First Name based on Gender.
-            if (gender == 'f') {
-                name = firstNamesFemale.get(randNum.nextInt(firstNamesFemale.size()));
-            } else if (gender == 'm') {
-                name = firstNamesMale.get(randNum.nextInt(firstNamesMale.size()));
-            } else if (randNum.nextBoolean()) { // If Non-Binary randomly chooses from either list.
-                name = firstNamesMale.get(randNum.nextInt(firstNamesMale.size()));
-            } else {
-                name = firstNamesFemale.get(randNum.nextInt(firstNamesFemale.size()));
+        boolean female;
+        if (gender == 'f') {
+            female = true;
+        } else if (gender == 'm') {
+            female = false;
+        } else {    // If Non-Binary randomly chooses from either list.
+            female = randNum.nextBoolean();
+        }
+        List<String> firstNames = female ? firstNamesFemale : firstNamesMale;
+        NamePermutation nameOrder = getNameOrder(female);
+        // Takes the next combination in the random order, which is always unused unless it was given as the name
+        // of a Family Member or appears in both First name lists, in which case it moves on to the next.
+        while (nameOrder.hasNext()) {
+            int index = nameOrder.next();
+            String name = firstNames.get(index / lastNames.size()) + " " + lastNames.get(index % lastNames.size());
+            if (nameRegistry.claimName(name)) {
+                return name;
             }
+        }
+        // Every combination of this list has been given, so searches the other list or gives a used name.
+        return generateUniqueName(gender, lastNames);
+    }
 
-            // Assign Last Name
-            name += " " + lastNames.get(randNum.nextInt(lastNames.size()));
-
-            // Checks isn't already taken, if it fails 5000 times, just returns last generated name.
-            if (usedNames.contains(name) && safetyCheck > 0) {
-                name = "";
-                safetyCheck--;
+    /**
+     * Returns the random order of names for the female or male First names, creating it if not yet created.
+     * @param female Whether to get the order for the female First names.
+     * @return The Name Permutation of the First names with every Last name.
+     */
+    private NamePermutation getNameOrder(boolean female) {
+        if (female) {
+            if (femaleNameOrder == null) {
+                femaleNameOrder = new NamePermutation(firstNamesFemale.size() * lastNames.size(), randNum);
             }
+            return femaleNameOrder;
+        } else {
+            if (maleNameOrder == null) {
+                maleNameOrder = new NamePermutation(firstNamesMale.size() * lastNames.size(), randNum);
+            }
+            return maleNameOrder;
+        }
+    }
+
+    /**
+     * Discards the random orders of names, so new orders are started, such as after the Name Registry is cleared.
+     */
+    public void resetNameOrders() {
+        femaleNameOrder = null;
+        maleNameOrder = null;
+    }
+
+    /**
+     * Generates a new First name based on the given Gender with the given Last name, which hasn't already been used.
+     * @param gender The given Gender.
+     * @param lastName The Last name, e.g. of a Family Member.
+     * @return A String of the full name.
+     */
+    public String generateUniqueName(char gender, String lastName) {
+        return generateUniqueName(gender, List.of(lastName));
+    }
+
+    /**
+     * Generates an unused full name from a First name based on the given Gender and one of the given Last names.
+     * Non-Binary NPCs randomly use either list of First names, and the other if every name from that one is used.
+     * If every possible name has been used, a name is given even though another NPC already has it.
+     * @param gender The given Gender.
+     * @param possibleLastNames The Last names to choose from.
+     * @return A String of the full name.
+     */
+    private String generateUniqueName(char gender, List<String> possibleLastNames) {
+        List<String> firstNames;
+        List<String> otherFirstNames = null;
+        if (gender == 'f') {
+            firstNames = firstNamesFemale;
+        } else if (gender == 'm') {
+            firstNames = firstNamesMale;
+        } else if (randNum.nextBoolean()) { // If Non-Binary randomly chooses from either list.
+            firstNames = firstNamesMale;
+            otherFirstNames = firstNamesFemale;
+        } else {
+            firstNames = firstNamesFemale;
+            otherFirstNames = firstNamesMale;
+        }
+        String name = nameRegistry.claimUnusedCombination(firstNames, possibleLastNames, " ", randNum);
+        if (name == null && otherFirstNames != null) {
+            name = nameRegistry.claimUnusedCombination(otherFirstNames, possibleLastNames, " ", randNum);
+        }
+        if (name == null) {
+            // Every name has been used, so one is given anyway, as there is no other option.
+            name = firstNames.get(randNum.nextInt(firstNames.size())) + " "
+                    + possibleLastNames.get(randNum.nextInt(possibleLastNames.size()));
         }
-        usedNames.add(name);
         return name;
     }
 
@@ -449,11 +479,7 @@ public class NPCGenerator extends FeatureGenerator {
      * @return A char to represent the age group.
      */
     private char assignAgeGroup() {
-        int ageNum = randNum.nextInt(100);
-        if (ageNum < 80) { return 'a'; }       // Adult
-        else if (ageNum < 95) { return 'e'; }  // Elderly
-        else if (ageNum < 99) { return 't'; }  // Adolescent/Teen
-        else { return 'c'; }                   // Child
+        return AGE_GROUPS[AGE_GROUP_SAMPLER.sample(randNum)];
     }
 
     /**
@@ -502,29 +528,13 @@ public class NPCGenerator extends FeatureGenerator {
         }
     }
 
-    /**
-     * Adds to the ArrayList of used names, to avoid duplicates
-     * @param newName The new name being added.
-     */
-    public void addToUsedNames(String newName) {
-        usedNames.add(newName);
-    }
-
     /* Getters */
 
     /**
-     * Returns the race details HashMap of each race as a key and their age threshold array as the value.
-     * @return HashMap of the race details.
-     */
-    public HashMap<String, int[]> getRaceDetails() {
-        return raceDetails;
-    }
-
-    /**
-     * Returns all the names currently assigned in the World.
-     * @return An ArrayList of the used names.
+     * Returns the race details Map of each race as a key and their age threshold array as the value.
+     * @return Read-only Map of the race details.
      */
-    public ArrayList<String> getUsedNames() {
-        return usedNames;
+    public Map<String, int[]> getRaceDetails() {
+        return Collections.unmodifiableMap(raceDetails);
     }
 }
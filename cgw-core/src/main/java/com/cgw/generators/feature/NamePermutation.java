@@ -0,0 +1,106 @@
+package com.cgw.generators.feature;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * A random ordering of every index from 0 up to a given size, where each index is given exactly once.
+ * Used to choose combinations of First and Last names without choosing the same one twice,
+ * and without having to keep trying random combinations until an unused one is found.
+ * The order comes from a Feistel network with keys chosen from the given Random Generator, so it can be
+ * reproduced from the same Seed. Nothing is stored for the indexes, so it takes the same space for any size.
+ * @author Luke Burston
+ * @author lb800@kent.ac.uk
+ * @version 0.1
+ * @since 0.1
+ */
+public class NamePermutation {
+
+    private static final int ROUNDS = 4;    // Rounds of the Feistel network, each mixing one half into the other.
+
+    private final int size;         // The amount of indexes.
+    private final int halfBits;     // Bits in each half of a value, so both halves cover every index.
+    private final int halfMask;
+    private final int[] roundKeys;
+    private int position;           // How many indexes have been given.
+
+    /**
+     * Constructor for the Permutation, choosing a random order.
+     * @param size The amount of indexes to order.
+     * @param random The Random Generator to choose the order with.
+     */
+    public NamePermutation(int size, RandomGenerator random) {
+        this.size = size;
+        // Finds the smallest even number of bits that can hold every index, at least two.
+        int bits = Math.max(2, 32 - Integer.numberOfLeadingZeros(Math.max(size - 1, 1)));
+        halfBits = (bits + 1) / 2;
+        halfMask = (1 << halfBits) - 1;
+        roundKeys = new int[ROUNDS];
+        for(int round = 0; round < ROUNDS; round++) {
+            roundKeys[round] = random.nextInt();
+        }
+        position = 0;
+    }
+
+    /**
+     * Checks whether there are any indexes yet to be given.
+     * @return Boolean of whether there is a next index.
+     */
+    public boolean hasNext() {
+        return position < size;
+    }
+
+    /**
+     * Returns the next index in the random order.
+     * @return The next index, between 0 and the size.
+     */
+    public int next() {
+        if(!hasNext()) {
+            throw new IllegalStateException("Every index has already been given");
+        }
+        // The network orders every value that fits in its bits, which can be up to four times the size.
+        // Values outside the size are passed through again until one is inside, keeping each index unique.
+        int value = encrypt(position++);
+        while(value >= size) {
+            value = encrypt(value);
+        }
+        return value;
+    }
+
+    /**
+     * Returns the amount of indexes yet to be given.
+     * @return The amount of remaining indexes.
+     */
+    public int remaining() {
+        return size - position;
+    }
+
+    /**
+     * Passes a value through the Feistel network, giving a different value for every different input.
+     * @param value The value to pass through.
+     * @return The resulting value, within the same bits as the input.
+     */
+    private int encrypt(int value) {
+        int left = value >>> halfBits;
+        int right = value & halfMask;
+        for(int round = 0; round < ROUNDS; round++) {
+            int newRight = left ^ (mix(right, roundKeys[round]) & halfMask);
+            left = right;
+            right = newRight;
+        }
+        return (left << halfBits) | right;
+    }
+
+    /**
+     * Mixes the bits of a half with a round key.
+     * @param half The half of the value.
+     * @param key The key of the round.
+     * @return The mixed bits.
+     */
+    private static int mix(int half, int key) {
+        int hash = half * 0x9E3779B9 + key;
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        return hash;
+    }
+}
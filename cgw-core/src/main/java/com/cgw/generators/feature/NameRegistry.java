@@ -0,0 +1,95 @@
+package com.cgw.generators.feature;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Registry of every name assigned to a Feature of the current World, shared by the Feature Generators so no two
+ * Features are given the same name. Names are combined from a list of first parts and a list of last parts,
+ * e.g. a First and Last name, or a Settlement prefix and suffix. Each Generation Context has its own Registry.
+ * @author Luke Burston
+ * @author lb800@kent.ac.uk
+ * @version 0.1
+ * @since 0.1
+ */
+public class NameRegistry {
+
+    // Amount of random combinations tried before searching through every combination for an unused one.
+    private static final int RANDOM_ATTEMPTS = 16;
+
+    private final HashSet<String> usedNames;    // Stores assigned names
+
+    /**
+     * Constructor for the Name Registry, with no used names.
+     */
+    public NameRegistry() {
+        usedNames = new HashSet<>();
+    }
+
+    /**
+     * Assigns the name if it has not already been used.
+     * @param name The name to assign.
+     * @return Boolean of whether the name was unused and has now been assigned.
+     */
+    public boolean claimName(String name) {
+        return usedNames.add(name);
+    }
+
+    /**
+     * Checks whether the name has already been assigned.
+     * @param name The name to check.
+     * @return Boolean of whether the name is used.
+     */
+    public boolean isUsed(String name) {
+        return usedNames.contains(name);
+    }
+
+    /**
+     * Randomly chooses and assigns an unused combination of a first and last part. A few random combinations
+     * are tried first, which almost always finds one while most are unused. If none of those are unused,
+     * every combination is checked in turn from a random starting point, so a name is only not found
+     * once every combination has actually been used.
+     * @param firstParts The first parts of the name, e.g. First names.
+     * @param lastParts The last parts of the name, e.g. Last names.
+     * @param separator Placed between the two parts, e.g. a space.
+     * @param random The Random Generator to choose with.
+     * @return The assigned name, or Null if every combination is already used.
+     */
+    public String claimUnusedCombination(List<String> firstParts, List<String> lastParts, String separator,
+                                         RandomGenerator random) {
+        int lastSize = lastParts.size();
+        long combinations = (long) firstParts.size() * lastSize;
+        if(combinations == 0) { return null; }
+
+        for(int attempt = 0; attempt < RANDOM_ATTEMPTS; attempt++) {
+            String name = firstParts.get(random.nextInt(firstParts.size())) + separator
+                    + lastParts.get(random.nextInt(lastSize));
+            if(usedNames.add(name)) { return name; }
+        }
+
+        // Each combination is given an index, which is split back into the index of its first and last part.
+        long start = random.nextLong(combinations);
+        for(long offset = 0; offset < combinations; offset++) {
+            long index = (start + offset) % combinations;
+            String name = firstParts.get((int) (index / lastSize)) + separator + lastParts.get((int) (index % lastSize));
+            if(usedNames.add(name)) { return name; }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the amount of names currently assigned in the World.
+     * @return The amount of used names.
+     */
+    public int size() {
+        return usedNames.size();
+    }
+
+    /**
+     * Clears all assigned names, so they can be used again in a new World.
+     */
+    public void clear() {
+        usedNames.clear();
+    }
+}
@@ -3,6 +3,8 @@ package com.cgw.generators.feature;
 import com.cgw.exceptions.GenerationFailureException;
 import com.cgw.exceptions.NoMoreNamesException;
 import com.cgw.features.*;
+import com.cgw.generators.GenerationContext;
+import com.cgw.generators.RandomStreams;
 import org.jetbrains.annotations.NotNull;
 import com.cgw.relationships.Predicate;
 import com.cgw.relationships.Relationship;
@@ -10,6 +12,7 @@ import com.cgw.relationships.Relationship;
 import java.io.*;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 
 /**
  * A Generator for Settlementss.
@@ -20,19 +23,22 @@ import java.util.HashMap;
  */
 public class SettlementGenerator extends FeatureGenerator {
 
-    // Singleton instance of itself.
-    private static SettlementGenerator settlementGenerator = null;
-
     // The imported types and their population thresholds for different sizes.
-    private final ArrayList<String> types;
-    private final HashMap<String, int[]> typeDetails;
+    // Resources are imported once and never changed, so are shared by the Settlement Generator of every World.
+    private static final ArrayList<String> types = new ArrayList<>();
+    private static final HashMap<String, int[]> typeDetails = new HashMap<>();
 
     // The ArrayLists of different types of names
-    private final ArrayList<String> singleNames;
-    private final ArrayList<String> prefixNames;
-    private final ArrayList<String> suffixNames;
+    private static final ArrayList<String> singleNames = new ArrayList<>();
+    private static final ArrayList<String> prefixNames = new ArrayList<>();
+    private static final ArrayList<String> suffixNames = new ArrayList<>();
+    private static final List<String> NO_SUFFIX = List.of("");  // Lets single names be chosen as a combination.
+
+    static {
+        importResources();
+    }
 
-    private final ArrayList<String> usedNames;  // Stores assigned names
+    private final NameRegistry nameRegistry;  // Stores assigned names, shared with the other Generators of the World.
 
     // Static values of each Settlement types max residents for Stopping Criteria checks.
     private static final int MAX_HAMLET_RESIDENTS = 20;
@@ -43,45 +49,27 @@ public class SettlementGenerator extends FeatureGenerator {
     private static final int MAX_LARGE_CITY_RESIDENTS = 200;
 
     /**
-     * Constructor for the Settlement Generator to create a random
-     * number generator and to import all the resources.
-     */
-    private SettlementGenerator() {
-        typeDetails = new HashMap<>();
-        types = new ArrayList<>();
-
-        singleNames = new ArrayList<>();
-        prefixNames = new ArrayList<>();
-        suffixNames = new ArrayList<>();
-
-        usedNames = new ArrayList<>();
-
-        importResources();
-    }
-
-    /**
-     * Returns this Generator, or creates a new one if it hasn't been set up yet.
-     * @return The Settlement Generator Singleton.
+     * Constructor for the Settlement Generator of a World, using the Settlement Stream and Name Registry of its Context.
+     * @param context The Generation Context of the World.
      */
-    public static SettlementGenerator getSettlementGenerator() {
-        if(settlementGenerator == null) {
-            settlementGenerator = new SettlementGenerator();
-        }
-        return settlementGenerator;
+    public SettlementGenerator(@NotNull GenerationContext context) {
+        super(context.getRandomStreams().getStream(RandomStreams.Stream.SETTLEMENTS));
+        nameRegistry = context.getNameRegistry();
     }
 
     /**
      * Imports all the txt files into ArrayLists and HashMaps,
      * by reading the txt file line by line and saving it to its respective field.
+     * Called once, when the Settlement Generator class is first used.
      */
-    protected void importResources() {
+    private static void importResources() {
         String resourceLocation = "/settlement/";
         BufferedReader reader;
         String currentLine;
 
         /* Import types */
         try {
-            InputStream is = getClass().getResourceAsStream(resourceLocation+"settlementTypes.txt");
+            InputStream is = SettlementGenerator.class.getResourceAsStream(resourceLocation+"settlementTypes.txt");
             assert is != null;
             reader = new BufferedReader(new
                     InputStreamReader(is));
@@ -104,7 +92,7 @@ public class SettlementGenerator extends FeatureGenerator {
         /* Import Names */
         try {
             /* Import Single Names */
-            InputStream is1 = getClass().getResourceAsStream(resourceLocation + "settlementSingleNames.txt");
+            InputStream is1 = SettlementGenerator.class.getResourceAsStream(resourceLocation + "settlementSingleNames.txt");
             assert is1 != null;
             reader = new BufferedReader(new
                     InputStreamReader(is1));
@@ -112,7 +100,7 @@ public class SettlementGenerator extends FeatureGenerator {
                 singleNames.add(currentLine);
             }
             /* Import Prefix Names */
-            InputStream is2 = getClass().getResourceAsStream(resourceLocation + "settlementPrefixNames.txt");
+            InputStream is2 = SettlementGenerator.class.getResourceAsStream(resourceLocation + "settlementPrefixNames.txt");
             assert is2 != null;
             reader = new BufferedReader(new
                     InputStreamReader(is2));
@@ -120,7 +108,7 @@ public class SettlementGenerator extends FeatureGenerator {
                 prefixNames.add(currentLine);
             }
             /* Import Suffix Names */
-            InputStream is3 = getClass().getResourceAsStream(resourceLocation + "settlementSuffixNames.txt");
+            InputStream is3 = SettlementGenerator.class.getResourceAsStream(resourceLocation + "settlementSuffixNames.txt");
             assert is3 != null;
             reader = new BufferedReader(new
                     InputStreamReader(is3));
@@ -171,8 +159,8 @@ public class SettlementGenerator extends FeatureGenerator {
      * @throws GenerationFailureException Exception for Failure to Generate Settlement.
      */
     public Settlement generateFeatureFromRelationship(Relationship relationship, Predicate predicateBtoA) throws GenerationFailureException {
-        switch (predicateBtoA.getPredicateString()) {
-            case "residence", "rules", "trades", "rival" -> {return generateRandomFeature();}
+        switch (predicateBtoA.getLabel()) {
+            case RESIDENCE, RULES, TRADES, RIVAL -> {return generateRandomFeature();}
         }
         return null;
     }
@@ -243,34 +231,21 @@ public class SettlementGenerator extends FeatureGenerator {
 
     /**
      * Randomly Assigns a name to the Settlement.
-     * The name can either be a random pairing of a prefix and suffix
-     * or a single name, which is removed from the list if picked.
-     * If no new names are able to be generated after a certain amount of time, it throws an Exception.
+     * The name can either be a random pairing of a prefix and suffix or a single name, neither already used.
+     * If one kind has run out, the other is used. Only once every name has been used does it throw an Exception.
      * @return A string of the name of the Settlement.
      */
     private String assignName() throws NoMoreNamesException {
-        String name = "";
-        // If the singleNames list has been emptied, it will always generate a new name.
-        if(randNum.nextBoolean() || singleNames.isEmpty()) {
-            // Generates name and checks if it has already been generated.
-            long startTime = System.currentTimeMillis();
-            while(name.isEmpty()) {
-                name = prefixNames.get(randNum.nextInt(prefixNames.size())) +
-                        suffixNames.get(randNum.nextInt(suffixNames.size()));
-                if (usedNames.contains(name)) {
-                    name = "";
-                    // Has a 3-second time limit in case of an infinite loop.
-                    if ((System.currentTimeMillis()-startTime)>3000) {
-                        throw new NoMoreNamesException("Generating a new Settlement name has taken too long");
-                    }
-                }
-            }
-            usedNames.add(name);
+        String name;
+        if(randNum.nextBoolean()) {
+            name = nameRegistry.claimUnusedCombination(prefixNames, suffixNames, "", randNum);
+            if(name == null) { name = nameRegistry.claimUnusedCombination(singleNames, NO_SUFFIX, "", randNum); }
         } else {
-            // Removes the name from the list before returning it.
-            int index = randNum.nextInt(singleNames.size());
-            name = singleNames.get(index);
-            singleNames.remove(index);
+            name = nameRegistry.claimUnusedCombination(singleNames, NO_SUFFIX, "", randNum);
+            if(name == null) { name = nameRegistry.claimUnusedCombination(prefixNames, suffixNames, "", randNum); }
+        }
+        if(name == null) {
+            throw new NoMoreNamesException("Every Settlement name has already been used");
         }
         return name;
     }
@@ -0,0 +1,181 @@
+package com.cgw.io;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.HashMap;
+
+/**
+ * Parses a single line of a JSON Lines World, which is always a flat JSON object whose values are Strings,
+ * whole numbers, booleans or null. Only what the JSON Lines World Writer writes needs reading, so nested objects
+ * and arrays are not supported.
+ * @author Luke Burston
+ * @author lb800@kent.ac.uk
+ * @version 0.1
+ * @since 0.1
+ */
+final class JsonLine {
+
+    private final String line;
+    private final int lineNumber;
+    private int position;
+
+    /**
+     * Constructor for parsing a line.
+     * @param line The line of JSON.
+     * @param lineNumber The number of the line in the file, for Exception messages.
+     */
+    private JsonLine(String line, int lineNumber) {
+        this.line = line;
+        this.lineNumber = lineNumber;
+    }
+
+    /**
+     * Parses a line into a Map of each key to its value, either a String, Long, Boolean or Null.
+     * @param line The line of JSON.
+     * @param lineNumber The number of the line in the file, for Exception messages.
+     * @return The values of the object, by key.
+     * @throws IOException If the line is not a flat JSON object.
+     */
+    static HashMap<String, Object> parse(@NotNull String line, int lineNumber) throws IOException {
+        return new JsonLine(line, lineNumber).parseObject();
+    }
+
+    /**
+     * Parses the whole line as an object.
+     * @return The values of the object, by key.
+     * @throws IOException If the line is not a flat JSON object.
+     */
+    private HashMap<String, Object> parseObject() throws IOException {
+        HashMap<String, Object> values = new HashMap<>();
+        expect('{');
+        if(peek() == '}') {
+            position++;
+        } else {
+            do {
+                String key = parseString();
+                expect(':');
+                values.put(key, parseValue());
+            } while(consume(','));
+            expect('}');
+        }
+        if(peek() != 0) {
+            throw error("Unexpected text after the object");
+        }
+        return values;
+    }
+
+    /**
+     * Parses a single value.
+     * @return The value, as a String, Long, Boolean or Null.
+     * @throws IOException If the value is not valid.
+     */
+    private Object parseValue() throws IOException {
+        char next = peek();
+        if(next == '"') { return parseString(); }
+        if(next == '-' || (next >= '0' && next <= '9')) { return parseNumber(); }
+        if(line.startsWith("true", position)) { position += 4; return Boolean.TRUE; }
+        if(line.startsWith("false", position)) { position += 5; return Boolean.FALSE; }
+        if(line.startsWith("null", position)) { position += 4; return null; }
+        throw error("Unsupported value");
+    }
+
+    /**
+     * Parses a whole number.
+     * @return The number.
+     * @throws IOException If it is not a whole number.
+     */
+    private Long parseNumber() throws IOException {
+        int start = position;
+        if(line.charAt(position) == '-') { position++; }
+        while(position < line.length() && Character.isDigit(line.charAt(position))) { position++; }
+        try {
+            return Long.parseLong(line, start, position, 10);
+        } catch (NumberFormatException ex) {
+            throw error("Invalid number");
+        }
+    }
+
+    /**
+     * Parses a String, replacing any escaped characters.
+     * @return The String.
+     * @throws IOException If the String is not valid.
+     */
+    private String parseString() throws IOException {
+        expect('"');
+        StringBuilder string = new StringBuilder();
+        while(position < line.length()) {
+            char c = line.charAt(position++);
+            if(c == '"') {
+                return string.toString();
+            }
+            if(c != '\\') {
+                string.append(c);
+                continue;
+            }
+            if(position >= line.length()) { break; }
+            char escaped = line.charAt(position++);
+            switch (escaped) {
+                case '"', '\\', '/' -> string.append(escaped);
+                case 'b' -> string.append('\b');
+                case 'f' -> string.append('\f');
+                case 'n' -> string.append('\n');
+                case 'r' -> string.append('\r');
+                case 't' -> string.append('\t');
+                case 'u' -> {
+                    if(position + 4 > line.length()) { throw error("Invalid unicode escape"); }
+                    try {
+                        string.append((char) Integer.parseInt(line, position, position + 4, 16));
+                    } catch (NumberFormatException ex) {
+                        throw error("Invalid unicode escape");
+                    }
+                    position += 4;
+                }
+                default -> throw error("Invalid escape \\" + escaped);
+            }
+        }
+        throw error("Unterminated String");
+    }
+
+    /**
+     * Skips whitespace and returns the next character without consuming it.
+     * @return The next character, or 0 at the end of the line.
+     */
+    private char peek() {
+        while(position < line.length() && Character.isWhitespace(line.charAt(position))) { position++; }
+        return position < line.length() ? line.charAt(position) : 0;
+    }
+
+    /**
+     * Consumes the next character if it is the one given.
+     * @param c The character.
+     * @return Boolean of whether it was consumed.
+     */
+    private boolean consume(char c) {
+        if(peek() == c) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Consumes the next character, which must be the one given.
+     * @param c The character.
+     * @throws IOException If the next character is different.
+     */
+    private void expect(char c) throws IOException {
+        if(!consume(c)) {
+            throw error("Expected '" + c + "'");
+        }
+    }
+
+    /**
+     * Creates an Exception for invalid JSON at the current position.
+     * @param message What is wrong.
+     * @return The Exception.
+     */
+    private IOException error(String message) {
+        return new IOException(message + " at line " + lineNumber + ", column " + (position + 1));
+    }
+}
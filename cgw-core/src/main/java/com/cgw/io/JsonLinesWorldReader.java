@@ -0,0 +1,209 @@
+package com.cgw.io;
+
+import com.cgw.features.Feature;
+import com.cgw.features.NPC;
+import com.cgw.features.Settlement;
+import com.cgw.features.World;
+import com.cgw.generators.RelationshipGenerator;
+import com.cgw.relationships.Predicate;
+import com.cgw.relationships.Relationship;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * Reads a World back from JSON Lines written by the JSON Lines World Writer, a line at a time, so only the line
+ * being read is held as text and the rest of the file is never loaded at once.
+ * The labels each Relationship stores in its Features are not read back, as saving the Relationships to the World
+ * makes them again from the Predicates and the Genders of the NPCs, the same way as when Generated.
+ * @author Luke Burston
+ * @author lb800@kent.ac.uk
+ * @version 0.1
+ * @since 0.1
+ */
+public class JsonLinesWorldReader implements WorldReader {
+
+    /**
+     * Reads a World from JSON Lines.
+     * @param path The file to read from.
+     * @return The World, as it was when written.
+     * @throws IOException If the file cannot be read, or a line is not a valid record.
+     */
+    @Override
+    public World read(@NotNull Path path) throws IOException {
+        World world = null;
+        ArrayList<Feature> features = new ArrayList<>();
+        ArrayList<Relationship> relationships = new ArrayList<>();
+        // Each Predicate String is looked up once, rather than for every Relationship.
+        HashMap<String, Predicate> predicates = new HashMap<>();
+
+        try (BufferedReader in = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while((line = in.readLine()) != null) {
+                lineNumber++;
+                if(line.isBlank()) { continue; }
+                HashMap<String, Object> record = JsonLine.parse(line, lineNumber);
+                String recordType = string(record, "record", lineNumber);
+
+                if(world == null) {
+                    if(!recordType.equals("world")) {
+                        throw new IOException("Expected the World record at line " + lineNumber);
+                    }
+                    long version = number(record, "version", lineNumber);
+                    if(version != JsonLinesWorldWriter.VERSION) {
+                        throw new IOException("Unsupported JSON Lines version " + version + ", expected "
+                                + JsonLinesWorldWriter.VERSION);
+                    }
+                    world = new World();
+                    world.setName(string(record, "name", lineNumber));
+                    world.setSeed(number(record, "seed", lineNumber));
+                    continue;
+                }
+
+                switch (recordType) {
+                    case "feature" -> {
+                        if(number(record, "id", lineNumber) != features.size()) {
+                            throw new IOException("Feature out of order at line " + lineNumber);
+                        }
+                        Feature feature = readFeature(record, lineNumber);
+                        features.add(feature);
+                        world.saveFeature(feature);
+                    }
+                    case "relationship" -> {
+                        Feature featureA = feature(features, number(record, "a", lineNumber), lineNumber);
+                        Feature featureB = feature(features, number(record, "b", lineNumber), lineNumber);
+                        Predicate predicateAtoB = predicate(predicates, string(record, "aToB", lineNumber), lineNumber);
+                        Predicate predicateBtoA = predicate(predicates, string(record, "bToA", lineNumber), lineNumber);
+                        relationships.add(new Relationship(featureA, featureB, predicateAtoB, predicateBtoA));
+                    }
+                    default -> throw new IOException("Unknown record \"" + recordType + "\" at line " + lineNumber);
+                }
+            }
+        }
+
+        if(world == null) {
+            throw new IOException("No World record found");
+        }
+        world.saveRelationships(relationships);
+        return world;
+    }
+
+    /**
+     * Creates the Feature of a Feature record.
+     * @param record The values of the record.
+     * @param lineNumber The number of the line, for Exception messages.
+     * @return The NPC or Settlement.
+     * @throws IOException If the record is missing values or has an unknown type.
+     */
+    private static Feature readFeature(HashMap<String, Object> record, int lineNumber) throws IOException {
+        String type = string(record, "type", lineNumber);
+        if(type.equals("NPC")) {
+            NPC npc = new NPC();
+            npc.setName((String) record.get("name"));
+            npc.setRace((String) record.get("race"));
+            npc.setGender(character(record, "gender", lineNumber));
+            npc.setAge((int) number(record, "age", lineNumber));
+            npc.setAgeGroup(character(record, "ageGroup", lineNumber));
+            npc.setAlive(!Boolean.FALSE.equals(record.get("alive")));
+            return npc;
+        } else if(type.equals("Settlement")) {
+            Settlement settlement = new Settlement();
+            settlement.setName((String) record.get("name"));
+            settlement.setType((String) record.get("settlementType"));
+            settlement.setSize(character(record, "size", lineNumber));
+            settlement.setPopulation((int) number(record, "population", lineNumber));
+            settlement.setMaxResidents((int) number(record, "maxResidents", lineNumber));
+            return settlement;
+        }
+        throw new IOException("Unknown Feature type \"" + type + "\" at line " + lineNumber);
+    }
+
+    /**
+     * Returns a String value of a record.
+     * @param record The values of the record.
+     * @param key The key of the value.
+     * @param lineNumber The number of the line, for Exception messages.
+     * @return The String.
+     * @throws IOException If the value is missing or not a String.
+     */
+    private static String string(HashMap<String, Object> record, String key, int lineNumber) throws IOException {
+        if(record.get(key) instanceof String string) {
+            return string;
+        }
+        throw new IOException("Missing \"" + key + "\" at line " + lineNumber);
+    }
+
+    /**
+     * Returns a single character value of a record, written as a String.
+     * @param record The values of the record.
+     * @param key The key of the value.
+     * @param lineNumber The number of the line, for Exception messages.
+     * @return The character.
+     * @throws IOException If the value is missing or not a single character.
+     */
+    private static char character(HashMap<String, Object> record, String key, int lineNumber) throws IOException {
+        String string = string(record, key, lineNumber);
+        if(string.length() != 1) {
+            throw new IOException("\"" + key + "\" should be a single character at line " + lineNumber);
+        }
+        return string.charAt(0);
+    }
+
+    /**
+     * Returns a whole number value of a record.
+     * @param record The values of the record.
+     * @param key The key of the value.
+     * @param lineNumber The number of the line, for Exception messages.
+     * @return The number.
+     * @throws IOException If the value is missing or not a number.
+     */
+    private static long number(HashMap<String, Object> record, String key, int lineNumber) throws IOException {
+        if(record.get(key) instanceof Long number) {
+            return number;
+        }
+        throw new IOException("Missing \"" + key + "\" at line " + lineNumber);
+    }
+
+    /**
+     * Returns a Feature already read.
+     * @param features The Features, by id.
+     * @param id The id of the Feature.
+     * @param lineNumber The number of the line, for Exception messages.
+     * @return The Feature.
+     * @throws IOException If there is no Feature with the id.
+     */
+    private static Feature feature(ArrayList<Feature> features, long id, int lineNumber) throws IOException {
+        if(id < 0 || id >= features.size()) {
+            throw new IOException("Relationship refers to missing Feature " + id + " at line " + lineNumber);
+        }
+        return features.get((int) id);
+    }
+
+    /**
+     * Returns the Predicate of a Predicate String, looking it up the first time it is needed.
+     * @param predicates The Predicates already looked up, by Predicate String.
+     * @param predicateString The Predicate String.
+     * @param lineNumber The number of the line, for Exception messages.
+     * @return The Predicate.
+     * @throws IOException If there is no Predicate with that String.
+     */
+    private static Predicate predicate(HashMap<String, Predicate> predicates, String predicateString, int lineNumber)
+            throws IOException {
+        Predicate predicate = predicates.get(predicateString);
+        if(predicate == null) {
+            predicate = RelationshipGenerator.getPredicateFromString(predicateString);
+            if(predicate == null) {
+                throw new IOException("Unknown Predicate \"" + predicateString + "\" at line " + lineNumber);
+            }
+            predicates.put(predicateString, predicate);
+        }
+        return predicate;
+    }
+}
@@ -0,0 +1,89 @@
+package com.cgw.io;
+
+import com.cgw.features.Feature;
+import com.cgw.features.NPC;
+import com.cgw.features.Settlement;
+import com.cgw.features.World;
+import com.cgw.relationships.Relationship;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * Writes a World as JSON Lines, one JSON object per line, to be read a line at a time by other programs
+ * or by the JSON Lines World Reader. Each line has a "record" of "world", "feature" or "relationship":
+ * <pre>
+ * {"record":"world","version":1,"name":"Enitia","seed":272727}
+ * {"record":"feature","id":0,"type":"NPC","name":"Valia Mickelberg","race":"Halfling","gender":"f",...}
+ * {"record":"relationship","a":0,"b":5,"aToB":"child","bToA":"parent","labelInA":"mother","labelInB":"child"}
+ * </pre>
+ * Features are written first, in the order of the World, and Relationships refer to them by id. As well as their
+ * Predicates, Relationships hold the labels stored within each Feature, which include the gendered Parent labels.
+ * Each line is written as soon as it is made, so only the ids of the Features are held while writing.
+ * @author Luke Burston
+ * @author lb800@kent.ac.uk
+ * @version 0.1
+ * @since 0.1
+ */
+public class JsonLinesWorldWriter implements WorldWriter {
+
+    static final int VERSION = 1;
+
+    /**
+     * Writes the World as JSON Lines.
+     * @param world The World to write.
+     * @param path The file to write to.
+     * @throws IOException If the file cannot be written.
+     */
+    @Override
+    public void write(@NotNull World world, @NotNull Path path) throws IOException {
+        ArrayList<Feature> features = world.getFeatures();
+        HashMap<Feature, Integer> featureIds = new HashMap<>(features.size() * 2);
+
+        try (BufferedWriter out = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            out.write("{\"record\":\"world\",\"version\":" + VERSION + ",\"name\":" + JsonWorldWriter.quote(world.getName())
+                    + ",\"seed\":" + world.getSeed() + "}");
+            out.newLine();
+
+            for(int id = 0; id < features.size(); id++) {
+                Feature feature = features.get(id);
+                featureIds.put(feature, id);
+                out.write("{\"record\":\"feature\",\"id\":" + id
+                        + ",\"type\":" + JsonWorldWriter.quote(feature.getSubClass().getSimpleName())
+                        + ",\"name\":" + JsonWorldWriter.quote(feature.getName()));
+                if(feature instanceof NPC npc) {
+                    out.write(",\"race\":" + JsonWorldWriter.quote(npc.getRace())
+                            + ",\"gender\":" + JsonWorldWriter.quote(String.valueOf(npc.getGender()))
+                            + ",\"age\":" + npc.getAge()
+                            + ",\"ageGroup\":" + JsonWorldWriter.quote(String.valueOf(npc.getAgeGroup()))
+                            + ",\"alive\":" + !npc.isNotAlive());
+                } else if(feature instanceof Settlement settlement) {
+                    out.write(",\"settlementType\":" + JsonWorldWriter.quote(settlement.getType())
+                            + ",\"size\":" + JsonWorldWriter.quote(String.valueOf(settlement.getSize()))
+                            + ",\"population\":" + settlement.getPopulation()
+                            + ",\"maxResidents\":" + settlement.getMaxResidents());
+                }
+                out.write('}');
+                out.newLine();
+            }
+
+            for(Relationship relationship : world.getRelationshipsView()) {
+                Feature featureA = relationship.getFeatureA();
+                Feature featureB = relationship.getFeatureB();
+                out.write("{\"record\":\"relationship\",\"a\":" + featureIds.get(featureA)
+                        + ",\"b\":" + featureIds.get(featureB)
+                        + ",\"aToB\":" + JsonWorldWriter.quote(relationship.getPredicateAtoB().getPredicateString())
+                        + ",\"bToA\":" + JsonWorldWriter.quote(relationship.getPredicateBtoA().getPredicateString())
+                        + ",\"labelInA\":" + JsonWorldWriter.quote(relationship.getLabelStoredIn(featureA))
+                        + ",\"labelInB\":" + JsonWorldWriter.quote(relationship.getLabelStoredIn(featureB)) + "}");
+                out.newLine();
+            }
+        }
+    }
+}
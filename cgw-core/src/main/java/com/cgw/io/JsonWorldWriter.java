@@ -0,0 +1,119 @@
+package com.cgw.io;
+
+import com.cgw.features.Feature;
+import com.cgw.features.NPC;
+import com.cgw.features.Settlement;
+import com.cgw.features.World;
+import com.cgw.relationships.Relationship;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * Writes a World as a single JSON object, to be read by other programs.
+ * Each Feature is given an id from its position in the World, and each Relationship refers to its two Features
+ * by id, as names are not always unique. Attributes are written as stored, e.g. the gender "m" rather than "Male".
+ * The JSON is written directly as the World is gone through, so the whole document is never held in memory.
+ * @author Luke Burston
+ * @author lb800@kent.ac.uk
+ * @version 0.1
+ * @since 0.1
+ */
+public class JsonWorldWriter implements WorldWriter {
+
+    /**
+     * Writes the World as JSON.
+     * @param world The World to write.
+     * @param path The file to write to.
+     * @throws IOException If the file cannot be written.
+     */
+    @Override
+    public void write(@NotNull World world, @NotNull Path path) throws IOException {
+        ArrayList<Feature> features = world.getFeatures();
+        HashMap<Feature, Integer> featureIds = new HashMap<>(features.size() * 2);
+
+        try (BufferedWriter out = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            out.write("{\"name\":" + quote(world.getName()) + ",\"seed\":" + world.getSeed() + ",\"features\":[");
+            for(int id = 0; id < features.size(); id++) {
+                Feature feature = features.get(id);
+                featureIds.put(feature, id);
+                if(id > 0) { out.write(','); }
+                out.newLine();
+                writeFeature(id, feature, out);
+            }
+
+            out.write("],\"relationships\":[");
+            boolean first = true;
+            for(Relationship relationship : world.getRelationshipsView()) {
+                if(!first) { out.write(','); }
+                first = false;
+                out.newLine();
+                out.write("{\"a\":" + featureIds.get(relationship.getFeatureA())
+                        + ",\"aToB\":" + quote(relationship.getPredicateAtoB().getPredicateString())
+                        + ",\"b\":" + featureIds.get(relationship.getFeatureB())
+                        + ",\"bToA\":" + quote(relationship.getPredicateBtoA().getPredicateString()) + "}");
+            }
+            out.write("]}");
+            out.newLine();
+        }
+    }
+
+    /**
+     * Writes a single Feature as a JSON object with its id, type, name and attributes.
+     * @param id The id of the Feature.
+     * @param feature The Feature to write.
+     * @param out The Writer of the file.
+     * @throws IOException If the file cannot be written.
+     */
+    private void writeFeature(int id, Feature feature, BufferedWriter out) throws IOException {
+        out.write("{\"id\":" + id + ",\"type\":" + quote(feature.getSubClass().getSimpleName())
+                + ",\"name\":" + quote(feature.getName()));
+        if(feature instanceof NPC npc) {
+            out.write(",\"race\":" + quote(npc.getRace())
+                    + ",\"gender\":" + quote(String.valueOf(npc.getGender()))
+                    + ",\"age\":" + npc.getAge()
+                    + ",\"ageGroup\":" + quote(String.valueOf(npc.getAgeGroup()))
+                    + ",\"alive\":" + !npc.isNotAlive());
+        } else if(feature instanceof Settlement settlement) {
+            out.write(",\"settlementType\":" + quote(settlement.getType())
+                    + ",\"size\":" + quote(String.valueOf(settlement.getSize()))
+                    + ",\"population\":" + settlement.getPopulation()
+                    + ",\"maxResidents\":" + settlement.getMaxResidents());
+        }
+        out.write('}');
+    }
+
+    /**
+     * Returns the String as a JSON String, in quotes and with any special characters escaped.
+     * @param value The String to quote, which may be Null.
+     * @return The JSON String, or null.
+     */
+    static String quote(String value) {
+        if(value == null) { return "null"; }
+        StringBuilder quoted = new StringBuilder(value.length() + 2).append('"');
+        for(int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> quoted.append("\\\"");
+                case '\\' -> quoted.append("\\\\");
+                case '\n' -> quoted.append("\\n");
+                case '\r' -> quoted.append("\\r");
+                case '\t' -> quoted.append("\\t");
+                default -> {
+                    if(c < 0x20) {
+                        quoted.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        quoted.append(c);
+                    }
+                }
+            }
+        }
+        return quoted.append('"').toString();
+    }
+}
@@ -0,0 +1,204 @@
+package com.cgw.io;
+
+import com.cgw.features.Feature;
+import com.cgw.features.NPC;
+import com.cgw.features.Settlement;
+import com.cgw.features.World;
+import com.cgw.generators.RelationshipGenerator;
+import com.cgw.relationships.Predicate;
+import com.cgw.relationships.Relationship;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+
+/**
+ * Reads a World back from a binary Snapshot written by the Snapshot World Writer.
+ * The file is mapped into memory rather than read through a stream, so the operating system loads it straight
+ * from its page cache and records are decoded without copying them into a buffer first.
+ * Features and Relationships are saved to the World the same way as when Generated, so the Relationships of each
+ * Feature, including the gendered Parent labels, and the World's Pools and counts are rebuilt as they were.
+ * The Relationships are saved all at once, so the World only counts Family Members once rather than for each one.
+ * @author Luke Burston
+ * @author lb800@kent.ac.uk
+ * @version 0.1
+ * @since 0.1
+ */
+public class SnapshotWorldReader implements WorldReader {
+
+    /**
+     * Reads a World from a binary Snapshot.
+     * @param path The file to read from.
+     * @return The World, as it was when written.
+     * @throws IOException If the file cannot be read, is not a Snapshot, or was written by a newer version.
+     */
+    @Override
+    public World read(@NotNull Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if(channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot is too large to map: " + channel.size() + " bytes");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return read(buffer);
+        } catch (BufferUnderflowException ex) {
+            throw new IOException("Snapshot ends early, it may not have been fully written", ex);
+        }
+    }
+
+    /**
+     * Decodes the World from the mapped Snapshot.
+     * @param buffer The mapped file, positioned at its start.
+     * @return The World.
+     * @throws IOException If the Snapshot is not valid.
+     */
+    private World read(MappedByteBuffer buffer) throws IOException {
+        if(buffer.remaining() < WorldSnapshot.HEADER_SIZE || buffer.getInt() != WorldSnapshot.MAGIC) {
+            throw new IOException("Not a World Snapshot");
+        }
+        short version = buffer.getShort();
+        if(version != WorldSnapshot.VERSION) {
+            throw new IOException("Unsupported Snapshot version " + version + ", expected " + WorldSnapshot.VERSION);
+        }
+        long seed = buffer.getLong();
+        int worldNameId = buffer.getInt();
+        int stringCount = buffer.getInt();
+        int featureCount = buffer.getInt();
+        int relationshipCount = buffer.getInt();
+        if(stringCount < 0 || featureCount < 0 || relationshipCount < 0) {
+            throw new IOException("Snapshot header is corrupt");
+        }
+
+        // Each String has at least its length, so a corrupt count is caught before making the String Table.
+        require(buffer, (long) stringCount * Integer.BYTES, "String Table");
+        String[] strings = new String[stringCount];
+        for(int id = 0; id < stringCount; id++) {
+            int length = buffer.getInt();
+            if(length < 0 || length > buffer.remaining()) {
+                throw new IOException("String " + id + " has a corrupt length of " + length);
+            }
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            strings[id] = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        World world = new World();
+        world.setName(string(strings, worldNameId));
+        world.setSeed(seed);
+
+        // Feature records are all the same size, so every record ends within the file if the last one does.
+        require(buffer, (long) featureCount * WorldSnapshot.FEATURE_RECORD_SIZE, "Feature records");
+        Feature[] features = new Feature[featureCount];
+        for(int id = 0; id < featureCount; id++) {
+            int recordStart = buffer.position();
+            byte kind = buffer.get();
+            if(kind == WorldSnapshot.KIND_NPC) {
+                NPC npc = new NPC();
+                npc.setName(string(strings, buffer.getInt()));
+                npc.setRace(string(strings, buffer.getInt()));
+                npc.setAge(buffer.getInt());
+                npc.setGender((char) buffer.get());
+                npc.setAgeGroup((char) buffer.get());
+                npc.setAlive(buffer.get() != 0);
+                features[id] = npc;
+            } else if(kind == WorldSnapshot.KIND_SETTLEMENT) {
+                Settlement settlement = new Settlement();
+                settlement.setName(string(strings, buffer.getInt()));
+                settlement.setType(string(strings, buffer.getInt()));
+                settlement.setPopulation(buffer.getInt());
+                settlement.setMaxResidents(buffer.getInt());
+                settlement.setSize((char) buffer.get());
+                features[id] = settlement;
+            } else {
+                throw new IOException("Unknown Feature kind " + kind + " for Feature " + id);
+            }
+            buffer.position(recordStart + WorldSnapshot.FEATURE_RECORD_SIZE);
+            world.saveFeature(features[id]);
+        }
+
+        // Each Predicate String is looked up once, rather than for every Relationship.
+        Predicate[] predicates = new Predicate[stringCount];
+        require(buffer, (long) relationshipCount * WorldSnapshot.RELATIONSHIP_RECORD_SIZE, "Relationship records");
+        ArrayList<Relationship> relationships = new ArrayList<>(relationshipCount);
+        for(int id = 0; id < relationshipCount; id++) {
+            Feature featureA = feature(features, buffer.getInt());
+            Feature featureB = feature(features, buffer.getInt());
+            Predicate predicateAtoB = predicate(predicates, strings, buffer.getInt());
+            Predicate predicateBtoA = predicate(predicates, strings, buffer.getInt());
+            relationships.add(new Relationship(featureA, featureB, predicateAtoB, predicateBtoA));
+        }
+        world.saveRelationships(relationships);
+        return world;
+    }
+
+    /**
+     * Checks the rest of the Snapshot is long enough for the next part, so a corrupt count or a cut off file is
+     * reported as an IOException rather than reading past the end of the file.
+     * @param buffer The mapped file, positioned at the start of the part.
+     * @param bytes The least amount of bytes the part needs.
+     * @param part The name of the part, for the message.
+     * @throws IOException If the file ends before the part does.
+     */
+    private static void require(ByteBuffer buffer, long bytes, String part) throws IOException {
+        if(bytes > buffer.remaining()) {
+            throw new IOException("Snapshot ends early in its " + part + ", it may not have been fully written");
+        }
+    }
+
+    /**
+     * Returns a String from the String Table.
+     * @param strings The String Table.
+     * @param id The index of the String, or NO_STRING for Null.
+     * @return The String, or Null.
+     * @throws IOException If the index is not in the String Table.
+     */
+    private static String string(String[] strings, int id) throws IOException {
+        if(id == WorldSnapshot.NO_STRING) { return null; }
+        if(id < 0 || id >= strings.length) {
+            throw new IOException("String " + id + " is not in the String Table");
+        }
+        return strings[id];
+    }
+
+    /**
+     * Returns a Feature already read from the Snapshot.
+     * @param features The Features, by id.
+     * @param id The id of the Feature.
+     * @return The Feature.
+     * @throws IOException If there is no Feature with the id.
+     */
+    private static Feature feature(Feature[] features, int id) throws IOException {
+        if(id < 0 || id >= features.length) {
+            throw new IOException("Relationship refers to missing Feature " + id);
+        }
+        return features[id];
+    }
+
+    /**
+     * Returns the Predicate of a Predicate String in the String Table, looking it up the first time it is needed.
+     * @param predicates The Predicates already looked up, by String index.
+     * @param strings The String Table.
+     * @param id The index of the Predicate String.
+     * @return The Predicate.
+     * @throws IOException If there is no Predicate with that String.
+     */
+    private static Predicate predicate(Predicate[] predicates, String[] strings, int id) throws IOException {
+        String predicateString = string(strings, id);
+        if(predicateString == null) {
+            throw new IOException("Relationship is missing its Predicate");
+        }
+        if(predicates[id] == null) {
+            predicates[id] = RelationshipGenerator.getPredicateFromString(predicateString);
+            if(predicates[id] == null) {
+                throw new IOException("Unknown Predicate \"" + predicateString + "\"");
+            }
+        }
+        return predicates[id];
+    }
+}
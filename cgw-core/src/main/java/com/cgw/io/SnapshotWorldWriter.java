@@ -0,0 +1,180 @@
+package com.cgw.io;
+
+import com.cgw.features.Feature;
+import com.cgw.features.NPC;
+import com.cgw.features.Settlement;
+import com.cgw.features.World;
+import com.cgw.relationships.Relationship;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+
+/**
+ * Writes a World as a binary Snapshot, laid out as described by World Snapshot, to be read back by the
+ * Snapshot World Reader. Much smaller and faster to read than the text Formats, as each String is only written once
+ * and Features and Relationships are fixed size records of ids.
+ * Records are gathered in a Buffer and written to a File Channel whenever it fills up.
+ * @author Luke Burston
+ * @author lb800@kent.ac.uk
+ * @version 0.1
+ * @since 0.1
+ */
+public class SnapshotWorldWriter implements WorldWriter {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Writes the World as a binary Snapshot.
+     * @param world The World to write.
+     * @param path The file to write to.
+     * @throws IOException If the file cannot be written, or the World has a Feature the Snapshot cannot hold.
+     */
+    @Override
+    public void write(@NotNull World world, @NotNull Path path) throws IOException {
+        ArrayList<Feature> features = world.getFeatures();
+        Collection<Relationship> relationships = world.getRelationshipsView();
+
+        // Every String is gathered first, as the String Table comes before the records that refer to it.
+        ArrayList<String> strings = new ArrayList<>();
+        HashMap<String, Integer> stringIds = new HashMap<>();
+        HashMap<Feature, Integer> featureIds = new HashMap<>(features.size() * 2);
+        int worldNameId = stringId(world.getName(), strings, stringIds);
+        for(int id = 0; id < features.size(); id++) {
+            Feature feature = features.get(id);
+            featureIds.put(feature, id);
+            stringId(feature.getName(), strings, stringIds);
+            if(feature instanceof NPC npc) {
+                stringId(npc.getRace(), strings, stringIds);
+            } else if(feature instanceof Settlement settlement) {
+                stringId(settlement.getType(), strings, stringIds);
+            } else {
+                throw new IOException("Cannot write Feature of type " + feature.getSubClass().getSimpleName());
+            }
+        }
+        for(Relationship relationship : relationships) {
+            stringId(relationship.getPredicateAtoB().getPredicateString(), strings, stringIds);
+            stringId(relationship.getPredicateBtoA().getPredicateString(), strings, stringIds);
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+            buffer.putInt(WorldSnapshot.MAGIC);
+            buffer.putShort(WorldSnapshot.VERSION);
+            buffer.putLong(world.getSeed());
+            buffer.putInt(worldNameId);
+            buffer.putInt(strings.size());
+            buffer.putInt(features.size());
+            buffer.putInt(relationships.size());
+
+            for(String string : strings) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                ensureSpace(buffer, channel, Integer.BYTES);
+                buffer.putInt(bytes.length);
+                if(bytes.length > buffer.capacity()) {
+                    // Too long to fit in the Buffer, so is written straight to the Channel.
+                    flush(buffer, channel);
+                    ByteBuffer longString = ByteBuffer.wrap(bytes);
+                    while(longString.hasRemaining()) { channel.write(longString); }
+                } else {
+                    ensureSpace(buffer, channel, bytes.length);
+                    buffer.put(bytes);
+                }
+            }
+
+            for(Feature feature : features) {
+                ensureSpace(buffer, channel, WorldSnapshot.FEATURE_RECORD_SIZE);
+                int recordStart = buffer.position();
+                if(feature instanceof NPC npc) {
+                    buffer.put(WorldSnapshot.KIND_NPC);
+                    buffer.putInt(indexOf(npc.getName(), stringIds));
+                    buffer.putInt(indexOf(npc.getRace(), stringIds));
+                    buffer.putInt(npc.getAge());
+                    buffer.put((byte) npc.getGender());
+                    buffer.put((byte) npc.getAgeGroup());
+                    buffer.put((byte) (npc.isNotAlive() ? 0 : 1));
+                } else {
+                    Settlement settlement = (Settlement) feature;
+                    buffer.put(WorldSnapshot.KIND_SETTLEMENT);
+                    buffer.putInt(indexOf(settlement.getName(), stringIds));
+                    buffer.putInt(indexOf(settlement.getType(), stringIds));
+                    buffer.putInt(settlement.getPopulation());
+                    buffer.putInt(settlement.getMaxResidents());
+                    buffer.put((byte) settlement.getSize());
+                }
+                // Pads the record to its full size, so every record starts at a fixed position.
+                while(buffer.position() < recordStart + WorldSnapshot.FEATURE_RECORD_SIZE) { buffer.put((byte) 0); }
+            }
+
+            for(Relationship relationship : relationships) {
+                ensureSpace(buffer, channel, WorldSnapshot.RELATIONSHIP_RECORD_SIZE);
+                buffer.putInt(featureIds.get(relationship.getFeatureA()));
+                buffer.putInt(featureIds.get(relationship.getFeatureB()));
+                buffer.putInt(stringIds.get(relationship.getPredicateAtoB().getPredicateString()));
+                buffer.putInt(stringIds.get(relationship.getPredicateBtoA().getPredicateString()));
+            }
+            flush(buffer, channel);
+        }
+    }
+
+    /**
+     * Returns the index of the String in the String Table, adding it if it is not there yet.
+     * @param string The String, which may be Null.
+     * @param strings The String Table.
+     * @param stringIds The index of each String already in the String Table.
+     * @return The index of the String, or NO_STRING if it is Null.
+     */
+    private static int stringId(String string, ArrayList<String> strings, HashMap<String, Integer> stringIds) {
+        if(string == null) { return WorldSnapshot.NO_STRING; }
+        return stringIds.computeIfAbsent(string, newString -> {
+            strings.add(newString);
+            return strings.size() - 1;
+        });
+    }
+
+    /**
+     * Returns the index of a String already in the String Table.
+     * @param string The String, which may be Null.
+     * @param stringIds The index of each String in the String Table.
+     * @return The index of the String, or NO_STRING if it is Null.
+     */
+    private static int indexOf(String string, HashMap<String, Integer> stringIds) {
+        return string == null ? WorldSnapshot.NO_STRING : stringIds.get(string);
+    }
+
+    /**
+     * Writes the Buffer to the Channel if it does not have enough space left.
+     * @param buffer The Buffer being filled.
+     * @param channel The Channel of the file.
+     * @param bytes The amount of bytes about to be put in the Buffer.
+     * @throws IOException If the file cannot be written.
+     */
+    private static void ensureSpace(ByteBuffer buffer, FileChannel channel, int bytes) throws IOException {
+        if(buffer.remaining() < bytes) {
+            flush(buffer, channel);
+        }
+    }
+
+    /**
+     * Writes everything in the Buffer to the Channel and empties the Buffer.
+     * @param buffer The Buffer being filled.
+     * @param channel The Channel of the file.
+     * @throws IOException If the file cannot be written.
+     */
+    private static void flush(ByteBuffer buffer, FileChannel channel) throws IOException {
+        buffer.flip();
+        while(buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
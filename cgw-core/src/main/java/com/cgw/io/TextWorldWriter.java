@@ -0,0 +1,72 @@
+package com.cgw.io;
+
+import com.cgw.features.Feature;
+import com.cgw.features.NPC;
+import com.cgw.features.Settlement;
+import com.cgw.features.World;
+import com.cgw.relationships.Relationship;
+import org.apache.commons.lang3.tuple.Triple;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes a World as plain text to be read by users, listing each Feature with its attributes
+ * and Relationships much like its page of the Wiki.
+ * @author Luke Burston
+ * @author lb800@kent.ac.uk
+ * @version 0.1
+ * @since 0.1
+ */
+public class TextWorldWriter implements WorldWriter {
+
+    /**
+     * Writes the World as plain text.
+     * @param world The World to write.
+     * @param path The file to write to.
+     * @throws IOException If the file cannot be written.
+     */
+    @Override
+    public void write(@NotNull World world, @NotNull Path path) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            out.write(world.getName() + " (Seed " + world.getSeed() + ")");
+            out.newLine();
+            out.write("NPCs: " + world.numberOfNPCs() + ", Settlements: " + world.numberOfSettlements()
+                    + ", Relationships: " + world.numberOfRelationships());
+            out.newLine();
+
+            for(Feature feature : world.getFeatures()) {
+                out.newLine();
+                out.write(feature.getSubClass().getSimpleName() + ": " + feature.getName());
+                out.newLine();
+                writeAttributes(feature, out);
+                for(Triple<String, Feature, Relationship> relationship : feature.getTripleRelationships()) {
+                    out.write("    " + relationship.getLeft() + ": " + relationship.getMiddle().getName());
+                    out.newLine();
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the attributes of the Feature on a single line.
+     * @param feature The Feature whose attributes are written.
+     * @param out The Writer of the file.
+     * @throws IOException If the file cannot be written.
+     */
+    private void writeAttributes(Feature feature, BufferedWriter out) throws IOException {
+        if(feature instanceof NPC npc) {
+            out.write("  " + npc.getRace() + ", " + npc.getGenderString() + ", " + npc.getAge()
+                    + " (" + npc.getAgeGroupString() + "), " + npc.getAliveString());
+            out.newLine();
+        } else if(feature instanceof Settlement settlement) {
+            out.write("  " + settlement.getType() + ", " + settlement.getSizeString() + ", population "
+                    + settlement.getPopulation());
+            out.newLine();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.cgw.io;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Locale;
+
+/**
+ * Enum of the file Formats a World can be written in, each with the file extension and the Writer for that Format.
+ * @author Luke Burston
+ * @author lb800@kent.ac.uk
+ * @version 0.1
+ * @since 0.1
+ */
+public enum WorldFormat {
+
+    TEXT("txt"),
+    JSON("json"),
+    JSON_LINES("jsonl"),
+    BINARY("cgw");
+
+    private final String extension;
+
+    /**
+     * Sets the file extension of the Format.
+     * @param extension The extension, without the dot.
+     */
+    WorldFormat(final String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * Returns the file extension of this Format.
+     * @return The extension, without the dot.
+     */
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Creates a Writer for this Format.
+     * @return A new World Writer.
+     */
+    public WorldWriter createWriter() {
+        return switch (this) {
+            case TEXT -> new TextWorldWriter();
+            case JSON -> new JsonWorldWriter();
+            case JSON_LINES -> new JsonLinesWorldWriter();
+            case BINARY -> new SnapshotWorldWriter();
+        };
+    }
+
+    /**
+     * Finds the Format from its name or file extension, ignoring case, such as from a command line argument.
+     * @param name The name or extension of the Format, e.g. "json" or "jsonl".
+     * @return The Format of that name.
+     * @throws IllegalArgumentException If there is no Format of that name.
+     */
+    public static WorldFormat fromName(@NotNull String name) {
+        for(WorldFormat format : values()) {
+            if(format.name().equals(name.toUpperCase(Locale.ROOT)) || format.extension.equalsIgnoreCase(name)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unknown format \"" + name + "\"");
+    }
+}
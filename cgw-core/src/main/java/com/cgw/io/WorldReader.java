@@ -0,0 +1,26 @@
+package com.cgw.io;
+
+import com.cgw.features.World;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Reads a World back from a file written by the matching World Writer, such as to show it in the Wiki again
+ * without Generating it.
+ * @author Luke Burston
+ * @author lb800@kent.ac.uk
+ * @version 0.1
+ * @since 0.1
+ */
+public interface WorldReader {
+
+    /**
+     * Reads the World's Features and completed Relationships from the file.
+     * @param path The file to read from.
+     * @return The World, as it was when written.
+     * @throws IOException If the file cannot be read or is not a valid World.
+     */
+    World read(@NotNull Path path) throws IOException;
+}
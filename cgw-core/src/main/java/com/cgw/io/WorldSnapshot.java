@@ -0,0 +1,45 @@
+package com.cgw.io;
+
+/**
+ * The layout of the binary World Snapshot format, shared by the Snapshot Writer and Reader.
+ * All numbers are big-endian, and every String is written once in the String Table and referred to by its index,
+ * as names, races, types and Predicates are repeated many times. A Snapshot is laid out as:
+ * <pre>
+ * Header:          int magic, short version, long seed, int world name, int String count,
+ *                  int Feature count, int Relationship count
+ * String Table:    for each String, int length in bytes, then its UTF-8 bytes
+ * Features:        a record of FEATURE_RECORD_SIZE bytes for each Feature, in the order of the World, whose index
+ *                  is the Feature's id
+ *   NPC:           byte kind, int name, int race, int age, byte gender, byte age group, byte alive, 2 unused bytes
+ *   Settlement:    byte kind, int name, int type, int population, int max residents, byte size
+ * Relationships:   int Feature A id, int Feature B id, int Predicate A to B, int Predicate B to A for each
+ *                  completed Relationship, in the order they were saved
+ * </pre>
+ * Unfinished Relationships are not saved, as they only matter while the World is being Generated.
+ * The version is increased whenever the layout changes, so older Snapshots can still be told apart.
+ * @author Luke Burston
+ * @author lb800@kent.ac.uk
+ * @version 0.1
+ * @since 0.1
+ */
+final class WorldSnapshot {
+
+    static final int MAGIC = 0x43475753;    // "CGWS" in ASCII.
+    static final short VERSION = 1;
+
+    static final int HEADER_SIZE = 4 + 2 + 8 + 4 + 4 + 4 + 4;
+    static final int FEATURE_RECORD_SIZE = 18;
+    static final int RELATIONSHIP_RECORD_SIZE = 16;
+
+    // The kind of each Feature record.
+    static final byte KIND_NPC = 0;
+    static final byte KIND_SETTLEMENT = 1;
+
+    static final int NO_STRING = -1;    // String index of a Null String.
+
+    /**
+     * Constructor for the Snapshot layout, which is never created.
+     */
+    private WorldSnapshot() {
+    }
+}
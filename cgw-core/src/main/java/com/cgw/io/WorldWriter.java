@@ -0,0 +1,25 @@
+package com.cgw.io;
+
+import com.cgw.features.World;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Writes a Generated World to a file in one of the World Formats, such as to keep it once the program has closed.
+ * @author Luke Burston
+ * @author lb800@kent.ac.uk
+ * @version 0.1
+ * @since 0.1
+ */
+public interface WorldWriter {
+
+    /**
+     * Writes the World's Features and completed Relationships to the file, replacing it if it already exists.
+     * @param world The World to write.
+     * @param path The file to write to.
+     * @throws IOException If the file cannot be written.
+     */
+    void write(@NotNull World world, @NotNull Path path) throws IOException;
+}
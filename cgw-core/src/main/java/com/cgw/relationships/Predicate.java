@@ -14,6 +14,7 @@ public class Predicate {
 
     Class<? extends Feature> requiredSubjectClass;
     String predicate;
+    private final RelationshipLabel label;
     Class<? extends Feature> requiredObjectClass;
     boolean isBiDirectional;
     private final int weight;
@@ -32,6 +33,7 @@ public class Predicate {
                      Class<? extends Feature> requiredObject, boolean isBiDirectional, int weight) {
         this.requiredSubjectClass = requiredSubject;
         this.predicate = predicate;
+        this.label = RelationshipLabel.getLabelFromString(predicate);
         this.requiredObjectClass = requiredObject;
         this.isBiDirectional = isBiDirectional;
         this.weight = weight;
@@ -58,6 +60,15 @@ public class Predicate {
         return predicate;
     }
 
+    /**
+     * Returns the Label of this Predicate, for switching on the type of Predicate without comparing Strings.
+     * This is the Label stored in the Object's Relationships, e.g. the Predicate "ruler" stores "ruler" in the Settlement.
+     * @return The RelationshipLabel of this Predicate.
+     */
+    public RelationshipLabel getLabel() {
+        return label;
+    }
+
     /**
      * Returns the Feature Subclass required for this Predicate Object.
      * @return Subclass of Feature.
@@ -2,7 +2,7 @@ package com.cgw.relationships;
 
 import com.cgw.features.Feature;
 import com.cgw.features.NPC;
-import com.cgw.generators.WorldGenerator;
+import com.cgw.features.World;
 import org.apache.commons.lang3.tuple.Triple;
 import org.jetbrains.annotations.NotNull;
 
@@ -203,51 +203,40 @@ public class Relationship {
      */
     public void storeRelationshipInFeatures() {
         if (lock) { // Checks this Relationship is completed.
-            if (predicateAtoB.getPredicateString().equals("parent") ||
-                predicateBtoA.getPredicateString().equals("parent")) {
-                storeParentRelationshipInFeatures();
-                // If the Relationship is Parent-Child, stores the Gender type as Predicate String instead.
-            } else {
-                featureA.addRelationship(Triple.of(predicateBtoA.getPredicateString(), featureB, this));
-                featureB.addRelationship(Triple.of(predicateAtoB.getPredicateString(), featureA, this));
-            }
+            featureA.addRelationship(Triple.of(getLabelStoredIn(featureA), featureB, this));
+            featureB.addRelationship(Triple.of(getLabelStoredIn(featureB), featureA, this));
         }
     }
 
     /**
-     * Adds a Triple Data Structure to the Parent and Child of the Relationship, so that the Parent has a gender
-     * specific label stored within the Child's Relationships.
+     * Returns the Label this Relationship stores within one of its Features, describing what the other Feature is to it.
+     * This is the other Feature's Predicate String, except a Parent is stored with a gender specific label instead,
+     * e.g. "mother" rather than "parent".
+     * @param feature One of the Features of this Relationship.
+     * @return The Label stored in that Feature.
      */
-    private void storeParentRelationshipInFeatures() {
-        String predicateBtoAString = predicateBtoA.getPredicateString();
-        String predicateAtoBString = predicateAtoB.getPredicateString();
-        if (predicateBtoAString.equals("parent")) {
-            NPC npcB = (NPC) featureB;
-            switch (npcB.getGender()) {
-                case 'm' -> featureA.addRelationship(Triple.of("father", featureB, this));
-                case 'f' -> featureA.addRelationship(Triple.of("mother", featureB, this));
-                case 'n' -> featureA.addRelationship(Triple.of("parent", featureB, this));
-            }
-            featureB.addRelationship(Triple.of(predicateAtoBString, featureA, this));
-        } else {
-            featureA.addRelationship(Triple.of(predicateBtoAString, featureB, this));
-            NPC npcA = (NPC) featureA;
-            switch (npcA.getGender()) {
-                case 'm' -> featureB.addRelationship(Triple.of("father", featureA, this));
-                case 'f' -> featureB.addRelationship(Triple.of("mother", featureA, this));
-                case 'n' -> featureB.addRelationship(Triple.of("parent", featureA, this));
-            }
+    public String getLabelStoredIn(@NotNull Feature feature) {
+        Feature otherFeature = getOtherFeature(feature);
+        Predicate otherPredicate = feature == featureA ? predicateBtoA : predicateAtoB;
+        if (otherPredicate.getLabel() == RelationshipLabel.PARENT) {
+            return switch (((NPC) otherFeature).getGender()) {
+                case 'm' -> "father";
+                case 'f' -> "mother";
+                default -> "parent";
+            };
         }
+        return otherPredicate.getPredicateString();
     }
 
     /**
      * Removes all references to this Relationship, in both Features and the World.
+     * @param world The World the Relationship was saved to.
      */
-    public void selfDestruct() {
+    public void selfDestruct(@NotNull World world) {
         featureA.removeRelationship(this);
         if(lock) { // Only needs to do these if it has been completed.
             featureB.removeRelationship(this);
-            WorldGenerator.getWorldGenerator().getWorld().removeRelationship(this);
+            world.removeRelationship(this);
         }
 
     }
@@ -0,0 +1,87 @@
+package com.cgw.relationships;
+
+/**
+ * Enum of the Labels stored in a Feature's Relationship Triples, describing what the other Feature is to it.
+ * Used by Features to index their Relationships by type, so checks do not have to compare Strings.
+ * @author Luke Burston
+ * @author lb800@kent.ac.uk
+ * @version 0.1
+ * @since 0.1
+ */
+public enum RelationshipLabel {
+
+    RESIDENCE("residence"),
+    RESIDENT("resident"),
+    RULES("rules"),
+    RULER("ruler"),
+    PARTNER("partner"),
+    MOTHER("mother"),
+    FATHER("father"),
+    PARENT("parent"),
+    CHILD("child"),
+    SIBLING("sibling"),
+    KILLED("killed"),
+    KILLER("killer"),
+    TRADES("trades"),
+    RIVAL("rival");
+
+    private final String label;
+
+    /**
+     * Sets the String Label as stored within the Relationship Triples.
+     * @param label String value given.
+     */
+    RelationshipLabel(final String label) {
+        this.label = label;
+    }
+
+    /**
+     * Checks whether this Label is one of the gendered or non-gendered Parent Labels.
+     * @return Boolean of whether this Label represents a Parent.
+     */
+    public boolean isParent() {
+        return this == MOTHER || this == FATHER || this == PARENT;
+    }
+
+    /**
+     * Checks whether this Label links blood relatives; Parents, Children and Siblings.
+     * @return Boolean of whether this Label represents a Family Member.
+     */
+    public boolean isFamily() {
+        return isParent() || this == CHILD || this == SIBLING;
+    }
+
+    /**
+     * Returns the String of the Label as it is stored in the Relationship Triples.
+     * @return The Label String.
+     */
+    @Override
+    public String toString() {
+        return label;
+    }
+
+    /**
+     * Returns the RelationshipLabel enum from the Label String of a Relationship Triple.
+     * @param string The Label String, e.g. "mother".
+     * @return The matching Label, or Null if none match.
+     */
+    public static RelationshipLabel getLabelFromString(String string) {
+        return switch (string) {
+            case "residence" -> RESIDENCE;
+            case "resident" -> RESIDENT;
+            case "rules" -> RULES;
+            case "ruler" -> RULER;
+            case "partner" -> PARTNER;
+            case "mother" -> MOTHER;
+            case "father" -> FATHER;
+            case "parent" -> PARENT;
+            case "child" -> CHILD;
+            case "sibling" -> SIBLING;
+            case "killed" -> KILLED;
+            case "killer" -> KILLER;
+            case "trades" -> TRADES;
+            case "rival" -> RIVAL;
+            default -> null;
+        };
+    }
+}
@@ -1,5 +1,8 @@
 package com.cgw.relationships;
 
+import com.cgw.features.Feature;
+import com.cgw.features.NPC;
+
 /**
  * Enum String values of the Relationship Labels to display on the World Wiki and to sort Relationships when displayed.
  */
@@ -45,6 +48,53 @@ public enum RelationshipStrings {
         return text;
     }
 
+    /**
+     * Returns the text of the Relationship without its colon, for headings of a group of Relationships.
+     * @return The Relationship Text Value, e.g. 'Sister'.
+     */
+    public String getHeading() {
+        return text.substring(0, text.length() - 2);
+    }
+
+    /**
+     * Returns the RelationshipString enum shown on the Wiki for a Relationship stored in a Feature.
+     * Uses ENUMs to set the specific text for that relationship, different for different genders.
+     * @param label The label of the Relationship, as stored in the Feature, e.g. 'sibling'.
+     * @param feature The other Feature of the Relationship, whose Gender is used for family.
+     * @return The RelationshipString enum, or Null if the label is not shown on the Wiki.
+     */
+    public static RelationshipStrings fromLabel(String label, Feature feature) {
+        return switch (label) {
+            case "residence" -> RESIDENCE;
+            case "rules" -> RULES;
+            case "partner" -> switch (((NPC) feature).getGender()) {
+                case 'm' -> HUSBAND;
+                case 'f' -> WIFE;
+                default -> PARTNER;
+            };
+            case "child" -> switch (((NPC) feature).getGender()) {
+                case 'm' -> SON;
+                case 'f' -> DAUGHTER;
+                default -> CHILD;
+            };
+            case "parent" -> PARENT;
+            case "mother" -> MOTHER;
+            case "father" -> FATHER;
+            case "sibling" -> switch (((NPC) feature).getGender()) {
+                case 'm' -> BROTHER;
+                case 'f' -> SISTER;
+                default -> SIBLING;
+            };
+            case "killer" -> KILLER;
+            case "killed" -> KILLED;
+            case "resident" -> RESIDENT;
+            case "ruler" -> RULER;
+            case "trades" -> TRADES;
+            case "rival" -> RIVAL;
+            default -> null;
+        };
+    }
+
     /**
      * Returns the RelationshipString enum from the String for Comparators.
      * @param string
@@ -0,0 +1,12 @@
+module com.cgw.core {
+    requires org.apache.commons.lang3;
+    requires static org.jetbrains.annotations;
+
+    exports com.cgw.features;
+    exports com.cgw.generators;
+    exports com.cgw.generators.feature;
+    exports com.cgw.relationships;
+    exports com.cgw.exceptions;
+    exports com.cgw.io;
+    exports com.cgw.cli;
+}
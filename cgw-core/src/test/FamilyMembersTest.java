@@ -0,0 +1,38 @@
+import com.cgw.exceptions.GenerationFailureException;
+import com.cgw.features.NPC;
+import com.cgw.features.World;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FamilyMembersTest {
+
+    @Test
+    void immediateFamilyShouldBeBloodRelatives() throws GenerationFailureException {
+        for(NPC npc : TestWorlds.generateWorld().getAllNPCs()) {
+            assertFalse(npc.isFamilyMemberOf(npc));
+            for(NPC parent : npc.getParents()) { assertTrue(npc.isFamilyMemberOf(parent)); }
+            for(NPC child : npc.getChildren()) { assertTrue(npc.isFamilyMemberOf(child)); }
+            for(NPC sibling : npc.getSiblings()) { assertTrue(npc.isFamilyMemberOf(sibling)); }
+        }
+    }
+
+    @Test
+    void everyFamilyMemberShouldBeABloodRelativeBothWays() throws GenerationFailureException {
+        World world = TestWorlds.generateWorld();
+        List<NPC> npcs = world.getAllNPCs();
+        for(NPC npc : npcs) {
+            Set<NPC> familyMembers = npc.getFamilyMembers();
+            Set<NPC> bloodLines = npc.getBloodLines();
+            for(NPC other : npcs) {
+                boolean related = npc.isFamilyMemberOf(other);
+                assertEquals(related, other.isFamilyMemberOf(npc));
+                assertEquals(related, other != npc && other.sharesBloodLineWith(bloodLines));
+                if(familyMembers.contains(other)) { assertTrue(related); }
+            }
+        }
+    }
+}
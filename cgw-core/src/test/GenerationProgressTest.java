@@ -0,0 +1,85 @@
+import com.cgw.exceptions.GenerationFailureException;
+import com.cgw.features.World;
+import com.cgw.generators.GenerationProgress;
+import com.cgw.generators.GenerationProgressPublisher;
+import com.cgw.generators.WorldGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GenerationProgressTest {
+
+    /**
+     * Collects every snapshot of Progress given to it, asking for them one at a time.
+     */
+    private static class ProgressCollector implements Flow.Subscriber<GenerationProgress> {
+
+        private final List<GenerationProgress> snapshots = new ArrayList<>();
+        private final CountDownLatch done = new CountDownLatch(1);
+        private Flow.Subscription subscription;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(GenerationProgress progress) {
+            snapshots.add(progress);
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable failure) {
+            done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            done.countDown();
+        }
+    }
+
+    @Test
+    void progressShouldEndWithTheFinishedWorld() throws GenerationFailureException, InterruptedException {
+        WorldGenerator worldGenerator = new WorldGenerator(TestWorlds.smallWorldConfig());
+        ProgressCollector collector = new ProgressCollector();
+        worldGenerator.getProgress().subscribe(collector);
+
+        worldGenerator.generateWorld();
+        assertTrue(collector.done.await(10, TimeUnit.SECONDS));
+
+        List<GenerationProgress> snapshots = collector.snapshots;
+        assertEquals(GenerationProgress.Stage.INITIAL, snapshots.get(0).getStage());
+        for(int index = 1; index < snapshots.size(); index++) {
+            // Stages are never published out of order, and each new Stage is always published.
+            assertTrue(snapshots.get(index - 1).getStage().compareTo(snapshots.get(index).getStage()) <= 0);
+        }
+        assertTrue(snapshots.stream().anyMatch(progress -> progress.getStage() == GenerationProgress.Stage.FINAL));
+
+        GenerationProgress finished = snapshots.get(snapshots.size() - 1);
+        World world = worldGenerator.getWorld();
+        assertEquals(GenerationProgress.Stage.FINISHED, finished.getStage());
+        assertEquals(world.numberOfNPCs(), finished.getNPCs());
+        assertEquals(world.numberOfSettlements(), finished.getSettlements());
+        assertEquals(world.numberOfRelationships(), finished.getRelationships());
+    }
+
+    @Test
+    void publisherShouldOnlyAcceptSnapshotsItWouldPublish() {
+        GenerationProgressPublisher publisher = new GenerationProgressPublisher(60_000);
+        assertTrue(publisher.accepts(GenerationProgress.Stage.ITERATION));
+        publisher.publish(new GenerationProgress(GenerationProgress.Stage.ITERATION, 1, new World(), 0));
+        assertFalse(publisher.accepts(GenerationProgress.Stage.ITERATION));
+        assertTrue(publisher.accepts(GenerationProgress.Stage.FINAL));
+        assertTrue(publisher.accepts(GenerationProgress.Stage.FINISHED));
+        publisher.close();
+    }
+}
@@ -0,0 +1,54 @@
+import com.cgw.exceptions.GenerationFailureException;
+import com.cgw.features.World;
+import com.cgw.io.JsonLinesWorldReader;
+import com.cgw.io.JsonLinesWorldWriter;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonLinesWorldTest {
+
+    @Test
+    void readWorldShouldMatchWrittenWorld() throws IOException, GenerationFailureException {
+        World world = TestWorlds.generateWorld();
+        Path file = Files.createTempFile("world", ".jsonl");
+        try {
+            new JsonLinesWorldWriter().write(world, file);
+            World read = new JsonLinesWorldReader().read(file);
+
+            TestWorlds.assertSameWorld(world, read);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void writtenRelationshipsShouldIncludeGenderedLabels() throws IOException, GenerationFailureException {
+        Path file = Files.createTempFile("world", ".jsonl");
+        try {
+            new JsonLinesWorldWriter().write(TestWorlds.generateWorld(), file);
+            List<String> lines = Files.readAllLines(file);
+            assertTrue(lines.get(0).startsWith("{\"record\":\"world\""));
+            assertTrue(lines.stream().anyMatch(line -> line.contains("\"mother\"") || line.contains("\"father\"")));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void readShouldRejectMalformedLines() throws IOException {
+        Path file = Files.createTempFile("notWorld", ".jsonl");
+        try {
+            Files.writeString(file, "{\"record\":\"world\",\"version\":1,\"name\":\"Broken\",\"seed\":1}\n{\"record\":\"feature\",");
+            IOException ex = assertThrows(IOException.class, () -> new JsonLinesWorldReader().read(file));
+            assertTrue(ex.getMessage().contains("line 2"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
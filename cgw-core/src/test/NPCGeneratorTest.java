@@ -1,6 +1,7 @@
 import com.cgw.exceptions.GenerationFailureException;
 import com.cgw.features.NPC;
-import com.cgw.generators.Randomiser;
+import com.cgw.generators.GenerationContext;
+import com.cgw.generators.WorldGenerationConfig;
 import com.cgw.generators.feature.NPCGenerator;
 import org.junit.jupiter.api.Test;
 
@@ -13,7 +14,7 @@ class NPCGeneratorTest {
 
     @Test
     void importingResourcesShouldPopulateFields() {
-        NPCGenerator testNPCGen = NPCGenerator.getNPCGenerator();
+        NPCGenerator testNPCGen = new GenerationContext().getNPCGenerator();
         assertNotNull(testNPCGen.getRaces());
         assertNotNull(testNPCGen.getRaceDetails());
         assertNotNull(testNPCGen.getFirstNamesFemale());
@@ -23,10 +24,12 @@ class NPCGeneratorTest {
 
     @Test
     void resettingSeedShouldGenerateSameNPC() {
-        NPCGenerator testNPCGen = NPCGenerator.getNPCGenerator();
+        WorldGenerationConfig config = new WorldGenerationConfig();
+        config.setSeed(272727);
         NPC[] testNPCs = new NPC[2];
         for(int i = 0; i < 2; i++) {
-            Randomiser.reset();
+            // Each Context starts from the same Seed with no used names.
+            NPCGenerator testNPCGen = new GenerationContext(config).getNPCGenerator();
             try {
                 testNPCs[i] = testNPCGen.generateRandomFeature();
             } catch (GenerationFailureException ex) {
@@ -44,7 +47,7 @@ class NPCGeneratorTest {
 
     @Test
     void noDuplicateNamesGeneratedIn1000() {
-        NPCGenerator testNPCGenerator = NPCGenerator.getNPCGenerator();
+        NPCGenerator testNPCGenerator = new GenerationContext().getNPCGenerator();
         ArrayList<String> names = new ArrayList<>();
         HashSet<String> namesCheck = new HashSet<>();
         for(int i = 0; i < 1000; i++) {
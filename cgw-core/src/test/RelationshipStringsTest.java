@@ -0,0 +1,33 @@
+import com.cgw.exceptions.GenerationFailureException;
+import com.cgw.features.Feature;
+import com.cgw.features.NPC;
+import com.cgw.relationships.Relationship;
+import com.cgw.relationships.RelationshipStrings;
+import org.apache.commons.lang3.tuple.Triple;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RelationshipStringsTest {
+
+    @Test
+    void everyRelationshipShouldBeShownOnTheWiki() throws GenerationFailureException {
+        for(Feature feature : TestWorlds.generateWorld().getFeatures()) {
+            for(Triple<String, Feature, Relationship> relationship : feature.getTripleRelationships()) {
+                assertNotNull(RelationshipStrings.fromLabel(relationship.getLeft(), relationship.getMiddle()));
+            }
+        }
+    }
+
+    @Test
+    void familyShouldBeShownByGender() {
+        NPC man = new NPC();
+        man.setGender('m');
+        NPC woman = new NPC();
+        woman.setGender('f');
+        assertEquals(RelationshipStrings.BROTHER, RelationshipStrings.fromLabel("sibling", man));
+        assertEquals(RelationshipStrings.DAUGHTER, RelationshipStrings.fromLabel("child", woman));
+        assertEquals(RelationshipStrings.WIFE, RelationshipStrings.fromLabel("partner", woman));
+        assertEquals("Sister", RelationshipStrings.SISTER.getHeading());
+    }
+}
@@ -1,6 +1,7 @@
 import com.cgw.exceptions.GenerationFailureException;
 import com.cgw.features.Settlement;
-import com.cgw.generators.Randomiser;
+import com.cgw.generators.GenerationContext;
+import com.cgw.generators.WorldGenerationConfig;
 import com.cgw.generators.feature.SettlementGenerator;
 import org.junit.jupiter.api.Test;
 
@@ -13,7 +14,7 @@ class SettlementGeneratorTest {
 
     @Test
     void importingResourcesShouldPopulateFields() {
-       SettlementGenerator testSettlementGen = SettlementGenerator.getSettlementGenerator();
+       SettlementGenerator testSettlementGen = new GenerationContext().getSettlementGenerator();
        assertNotNull(testSettlementGen.getTypes());
        assertNotNull(testSettlementGen.getTypeDetails());
        assertNotNull(testSettlementGen.getSingleNames());
@@ -23,10 +24,12 @@ class SettlementGeneratorTest {
 
     @Test
     void settingSeedShouldGenerateSameSettlement() {
-        SettlementGenerator testSettlementGen = SettlementGenerator.getSettlementGenerator();
+        WorldGenerationConfig config = new WorldGenerationConfig();
+        config.setSeed(272727);
         Settlement[] testSettlements = new Settlement[2];
         for(int i = 0; i < 2; i++) {
-            Randomiser.reset();
+            // Each Context starts from the same Seed with no used names.
+            SettlementGenerator testSettlementGen = new GenerationContext(config).getSettlementGenerator();
             try {
                 testSettlements[i] = testSettlementGen.generateRandomFeature();
             } catch (GenerationFailureException ex) {
@@ -42,7 +45,7 @@ class SettlementGeneratorTest {
 
     @Test
     void noDuplicateNamesGeneratedIn1000() {
-        SettlementGenerator testSettlementGenerator = SettlementGenerator.getSettlementGenerator();
+        SettlementGenerator testSettlementGenerator = new GenerationContext().getSettlementGenerator();
         ArrayList<String> names = new ArrayList<>();
         HashSet<String> namesCheck = new HashSet<>();
         for(int i = 0; i < 1000; i++) {
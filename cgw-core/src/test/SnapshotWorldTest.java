@@ -0,0 +1,83 @@
+import com.cgw.exceptions.GenerationFailureException;
+import com.cgw.features.World;
+import com.cgw.io.SnapshotWorldReader;
+import com.cgw.io.SnapshotWorldWriter;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotWorldTest {
+
+    @Test
+    void readWorldShouldMatchWrittenWorld() throws IOException, GenerationFailureException {
+        World world = TestWorlds.generateWorld();
+        Path file = Files.createTempFile("world", ".cgw");
+        try {
+            new SnapshotWorldWriter().write(world, file);
+            World read = new SnapshotWorldReader().read(file);
+
+            TestWorlds.assertSameWorld(world, read);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void readShouldRejectFilesThatAreNotSnapshots() throws IOException {
+        Path file = Files.createTempFile("notWorld", ".cgw");
+        try {
+            Files.writeString(file, "Not a World");
+            assertThrows(IOException.class, () -> new SnapshotWorldReader().read(file));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void readShouldRejectTruncatedSnapshots() throws IOException, GenerationFailureException {
+        Path file = Files.createTempFile("world", ".cgw");
+        try {
+            new SnapshotWorldWriter().write(TestWorlds.generateWorld(), file);
+            byte[] bytes = Files.readAllBytes(file);
+            // The header ends with the Feature and Relationship counts. The Feature records of 18 bytes are followed by
+            // the Relationship records of 16 bytes, which end the file.
+            ByteBuffer header = ByteBuffer.wrap(bytes);
+            int relationshipsStart = bytes.length - header.getInt(26) * 16;
+            int featuresStart = relationshipsStart - header.getInt(22) * 18;
+            int lastNPCStart = featuresStart;
+            for(int recordStart = featuresStart; recordStart < relationshipsStart; recordStart += 18) {
+                if(bytes[recordStart] == 0) { lastNPCStart = recordStart; }
+            }
+            // Cut inside the String Table, inside the padding of an NPC record, and inside the Relationships.
+            for(int length : new int[] {36, lastNPCStart + 17, bytes.length - 7}) {
+                Files.write(file, Arrays.copyOf(bytes, length));
+                assertThrows(IOException.class, () -> new SnapshotWorldReader().read(file));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void readShouldRejectCorruptStringLengths() throws IOException, GenerationFailureException {
+        Path file = Files.createTempFile("world", ".cgw");
+        try {
+            new SnapshotWorldWriter().write(TestWorlds.generateWorld(), file);
+            byte[] bytes = Files.readAllBytes(file);
+            // The length of the first String follows the header.
+            for(int length : new int[] {-1, Integer.MAX_VALUE}) {
+                ByteBuffer.wrap(bytes).putInt(30, length);
+                Files.write(file, bytes);
+                assertThrows(IOException.class, () -> new SnapshotWorldReader().read(file));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
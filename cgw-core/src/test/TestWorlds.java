@@ -0,0 +1,85 @@
+import com.cgw.exceptions.GenerationFailureException;
+import com.cgw.features.Feature;
+import com.cgw.features.NPC;
+import com.cgw.features.Settlement;
+import com.cgw.features.World;
+import com.cgw.generators.WorldGenerationConfig;
+import com.cgw.generators.WorldGenerator;
+import com.cgw.relationships.Relationship;
+import org.apache.commons.lang3.tuple.Triple;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The small World shared by the tests, and the check that a World read from a file matches the World written.
+ */
+final class TestWorlds {
+
+    private TestWorlds() {
+    }
+
+    /**
+     * Returns the config of a small World from a fixed Seed.
+     */
+    static WorldGenerationConfig smallWorldConfig() {
+        WorldGenerationConfig config = new WorldGenerationConfig();
+        config.setMaxNPCs(150);
+        config.setMaxSettlements(6);
+        config.setSeed(272727);
+        return config;
+    }
+
+    /**
+     * Generates a small World from a fixed Seed.
+     */
+    static World generateWorld() throws GenerationFailureException {
+        WorldGenerator worldGenerator = new WorldGenerator(smallWorldConfig());
+        worldGenerator.generateWorld();
+        return worldGenerator.getWorld();
+    }
+
+    /**
+     * Checks a World read from a file has the same Features, in the same order, with the same Relationships.
+     */
+    static void assertSameWorld(World world, World read) {
+        assertEquals(world.getName(), read.getName());
+        assertEquals(world.getSeed(), read.getSeed());
+        assertEquals(world.numberOfRelationships(), read.numberOfRelationships());
+        List<Feature> features = world.getFeatures();
+        List<Feature> readFeatures = read.getFeatures();
+        assertEquals(features.size(), readFeatures.size());
+        for(int index = 0; index < features.size(); index++) {
+            Feature feature = features.get(index);
+            Feature readFeature = readFeatures.get(index);
+            assertEquals(feature.getSubClass(), readFeature.getSubClass());
+            assertEquals(feature.getName(), readFeature.getName());
+            if(feature instanceof NPC npc) {
+                NPC readNPC = (NPC) readFeature;
+                assertEquals(npc.getRace(), readNPC.getRace());
+                assertEquals(npc.getGender(), readNPC.getGender());
+                assertEquals(npc.getAge(), readNPC.getAge());
+                assertEquals(npc.getAgeGroup(), readNPC.getAgeGroup());
+            } else {
+                Settlement settlement = (Settlement) feature;
+                Settlement readSettlement = (Settlement) readFeature;
+                assertEquals(settlement.getType(), readSettlement.getType());
+                assertEquals(settlement.getSize(), readSettlement.getSize());
+                assertEquals(settlement.getPopulation(), readSettlement.getPopulation());
+            }
+            // Labels include the gendered Parent labels, so must be stored in the same order.
+            List<Triple<String, Feature, Relationship>> relationships = feature.getTripleRelationships();
+            List<Triple<String, Feature, Relationship>> readRelationships = readFeature.getTripleRelationships();
+            assertEquals(relationships.size(), readRelationships.size());
+            for(int relationship = 0; relationship < relationships.size(); relationship++) {
+                assertEquals(relationships.get(relationship).getLeft(), readRelationships.get(relationship).getLeft());
+                assertEquals(relationships.get(relationship).getMiddle().getName(),
+                        readRelationships.get(relationship).getMiddle().getName());
+            }
+        }
+        assertEquals(world.numberOfNPCsWithResidence(), read.numberOfNPCsWithResidence());
+        assertEquals(world.numberOfNPCsWithMoreThanTwoFamilyMembers(), read.numberOfNPCsWithMoreThanTwoFamilyMembers());
+        assertEquals(world.numberOfSettlementsWithRuler(), read.numberOfSettlementsWithRuler());
+    }
+}
@@ -0,0 +1,124 @@
+import com.cgw.generators.AliasSampler;
+import com.cgw.generators.CumulativeSampler;
+import com.cgw.generators.WeightedSampler;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeightedSamplerTest {
+
+    private static final int DRAWS = 200000;
+    private static final long SEED = 272727;
+
+    /**
+     * Draws many times from the Sampler and returns the Chi-Squared statistic against the given weights,
+     * checking no index with a weight of zero is ever chosen.
+     */
+    private static double chiSquared(WeightedSampler sampler, double[] weights) {
+        Random random = new Random(SEED);
+        long[] counts = new long[weights.length];
+        for(int draw = 0; draw < DRAWS; draw++) {
+            counts[sampler.sample(random)]++;
+        }
+        double weightSum = 0;
+        for(double weight : weights) { weightSum += weight; }
+        double statistic = 0;
+        for(int index = 0; index < weights.length; index++) {
+            if(weights[index] == 0) {
+                assertEquals(0, counts[index], "Index " + index + " has no weight but was chosen");
+                continue;
+            }
+            double expected = DRAWS * weights[index] / weightSum;
+            statistic += (counts[index] - expected) * (counts[index] - expected) / expected;
+        }
+        return statistic;
+    }
+
+    @Test
+    void aliasSamplerShouldMatchGenderWeights() {
+        // Critical value for 2 degrees of freedom at p = 0.001.
+        assertTrue(chiSquared(new AliasSampler(45, 45, 10), new double[]{45, 45, 10}) < 13.82);
+    }
+
+    @Test
+    void aliasSamplerShouldMatchAgeGroupWeights() {
+        // Critical value for 3 degrees of freedom at p = 0.001.
+        assertTrue(chiSquared(new AliasSampler(80, 15, 4, 1), new double[]{80, 15, 4, 1}) < 16.27);
+    }
+
+    @Test
+    void aliasSamplerShouldMatchRandomWeights() {
+        Random random = new Random(SEED);
+        double[] weights = new double[10];
+        for(int index = 0; index < weights.length; index++) {
+            weights[index] = 1 + random.nextInt(100);
+        }
+        // Critical value for 9 degrees of freedom at p = 0.001.
+        assertTrue(chiSquared(new AliasSampler(weights), weights) < 27.88);
+    }
+
+    @Test
+    void aliasSamplerShouldNeverChooseZeroWeights() {
+        // Critical value for 1 degree of freedom at p = 0.001.
+        assertTrue(chiSquared(new AliasSampler(0, 5, 0, 5), new double[]{0, 5, 0, 5}) < 10.83);
+    }
+
+    @Test
+    void aliasSamplerShouldAlwaysChooseOnlyWeight() {
+        AliasSampler sampler = new AliasSampler(7);
+        Random random = new Random(SEED);
+        for(int draw = 0; draw < 100; draw++) {
+            assertEquals(0, sampler.sample(random));
+        }
+    }
+
+    @Test
+    void aliasSamplerShouldRejectInvalidWeights() {
+        assertThrows(IllegalArgumentException.class, () -> new AliasSampler(5, -1));
+        assertThrows(IllegalArgumentException.class, () -> new AliasSampler(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new AliasSampler(new int[0]));
+    }
+
+    @Test
+    void cumulativeSamplerShouldMatchPredicateWeights() {
+        CumulativeSampler sampler = new CumulativeSampler();
+        double[] weights = {20, 0, 35, 5, 40};
+        for(double weight : weights) { sampler.add((int) weight); }
+        // Critical value for 3 degrees of freedom at p = 0.001, as the zero weight is not counted.
+        assertTrue(chiSquared(sampler, weights) < 16.27);
+    }
+
+    @Test
+    void cumulativeSamplerShouldMatchWeightsAfterClearing() {
+        CumulativeSampler sampler = new CumulativeSampler();
+        for(int weight = 0; weight < 5; weight++) { sampler.add(100); }
+        sampler.clear();
+        // More weights than the starting capacity, so the Sampler has to grow.
+        double[] weights = new double[40];
+        for(int index = 0; index < weights.length; index++) {
+            weights[index] = index % 4 == 0 ? 0 : index;
+            sampler.add((int) weights[index]);
+        }
+        assertEquals(40, sampler.size());
+        // Critical value for 29 degrees of freedom at p = 0.001.
+        assertTrue(chiSquared(sampler, weights) < 58.30);
+    }
+
+    @Test
+    void cumulativeSamplerShouldChooseLastIndexWhenAllWeightsAreZero() {
+        CumulativeSampler sampler = new CumulativeSampler();
+        sampler.add(0);
+        sampler.add(0);
+        sampler.add(0);
+        assertEquals(2, sampler.sample(new Random(SEED)));
+    }
+
+    @Test
+    void cumulativeSamplerShouldRejectNegativeWeightsAndEmptySampling() {
+        CumulativeSampler sampler = new CumulativeSampler();
+        assertThrows(IllegalStateException.class, () -> sampler.sample(new Random(SEED)));
+        assertThrows(IllegalArgumentException.class, () -> sampler.add(-1));
+    }
+}
@@ -0,0 +1,69 @@
+import com.cgw.features.World;
+import com.cgw.generators.GeneratedWorld;
+import com.cgw.generators.WorldBatchGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorldBatchGeneratorTest {
+
+    private static final long BASE_SEED = 272727;
+    private static final int COUNT = 6;
+
+    @Test
+    void batchShouldMatchWorldsGeneratedOneAtATime() {
+        ForkJoinPool pool = new ForkJoinPool(3);
+        List<GeneratedWorld> batch;
+        try {
+            batch = new WorldBatchGenerator(pool).generate(COUNT, BASE_SEED, TestWorlds.smallWorldConfig());
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(COUNT, batch.size());
+        for(GeneratedWorld generatedWorld : batch) {
+            GeneratedWorld alone = WorldBatchGenerator.generateOne(generatedWorld.getIndex(),
+                    generatedWorld.getSeed(), TestWorlds.smallWorldConfig());
+            World batchWorld = generatedWorld.getWorld();
+            World aloneWorld = alone.getWorld();
+            assertNotNull(batchWorld);
+            assertNotNull(aloneWorld);
+            assertEquals(aloneWorld.getName(), batchWorld.getName());
+            assertEquals(aloneWorld.getSeed(), batchWorld.getSeed());
+            assertEquals(aloneWorld.getFeatures().size(), batchWorld.getFeatures().size());
+            assertEquals(aloneWorld.numberOfRelationships(), batchWorld.numberOfRelationships());
+            for(int index = 0; index < aloneWorld.getFeatures().size(); index++) {
+                assertEquals(aloneWorld.getFeatures().get(index).getName(), batchWorld.getFeatures().get(index).getName());
+            }
+        }
+    }
+
+    @Test
+    void sinkShouldBeGivenEveryWorldOnce() {
+        ForkJoinPool pool = new ForkJoinPool(3);
+        HashSet<Integer> indexes = new HashSet<>();
+        try {
+            int successful = new WorldBatchGenerator(pool).generate(COUNT, BASE_SEED, TestWorlds.smallWorldConfig(),
+                    generatedWorld -> {
+                        assertTrue(indexes.add(generatedWorld.getIndex()));
+                        assertEquals(WorldBatchGenerator.seedOf(BASE_SEED, generatedWorld.getIndex()),
+                                generatedWorld.getSeed());
+                        assertTrue(generatedWorld.isSuccessful());
+                    });
+            assertEquals(COUNT, successful);
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(COUNT, indexes.size());
+    }
+
+    @Test
+    void negativeCountShouldBeRejected() {
+        WorldBatchGenerator batchGenerator = new WorldBatchGenerator();
+        assertThrows(IllegalArgumentException.class,
+                () -> batchGenerator.generate(-1, BASE_SEED, TestWorlds.smallWorldConfig(), generatedWorld -> {}));
+    }
+}
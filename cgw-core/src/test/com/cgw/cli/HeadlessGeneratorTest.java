@@ -0,0 +1,67 @@
+package com.cgw.cli;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeadlessGeneratorTest {
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    /**
+     * Runs the Generator with the arguments, keeping what it prints.
+     */
+    private int run(String... args) {
+        return new HeadlessGenerator().run(args, new PrintStream(out, true, StandardCharsets.UTF_8),
+                new PrintStream(err, true, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void invalidArgumentsShouldExitWithUsage() {
+        assertEquals(HeadlessGenerator.EXIT_USAGE, run("--unknown", "1"));
+        assertEquals(HeadlessGenerator.EXIT_USAGE, run("--count", "0"));
+        assertEquals(HeadlessGenerator.EXIT_USAGE, run("--count", "many"));
+        assertEquals(HeadlessGenerator.EXIT_USAGE, run("--format", "xml"));
+        assertEquals(HeadlessGenerator.EXIT_USAGE, run("--seed"));
+        assertEquals(HeadlessGenerator.EXIT_USAGE, run("--progress", "--count", "2"));
+        assertTrue(err.toString(StandardCharsets.UTF_8).contains("Usage:"));
+    }
+
+    @Test
+    void helpShouldExitWithSuccess() {
+        assertEquals(HeadlessGenerator.EXIT_SUCCESS, run("--help"));
+        assertTrue(out.toString(StandardCharsets.UTF_8).contains("Usage:"));
+    }
+
+    @Test
+    void batchShouldWriteTheOtherWorldsWhenOneCannotBeWritten() throws IOException {
+        Path directory = Files.createTempDirectory("worlds");
+        try {
+            // A directory where the first World's file would go, so only that World cannot be written.
+            Files.createDirectory(directory.resolve("world-5.jsonl"));
+            int exitCode = run("--seed", "5", "--count", "3", "--max-npcs", "30", "--max-settlements", "2",
+                    "--format", "jsonl", "--output", directory.toString());
+
+            assertEquals(HeadlessGenerator.EXIT_FAILURE, exitCode);
+            assertTrue(err.toString(StandardCharsets.UTF_8).contains("World with Seed 5 could not be written"));
+            assertTrue(Files.isRegularFile(directory.resolve("world-6.jsonl")));
+            assertTrue(Files.isRegularFile(directory.resolve("world-7.jsonl")));
+        } finally {
+            try (Stream<Path> files = Files.walk(directory)) {
+                for(Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+}
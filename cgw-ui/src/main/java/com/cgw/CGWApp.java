@@ -2,7 +2,6 @@ package com.cgw;
 
 import com.cgw.controllers.MainViewController;
 import com.cgw.controllers.SceneNavigator;
-import com.cgw.generators.WorldGenerator;
 import com.cgw.features.World;
 
 import javafx.application.Application;
@@ -78,7 +77,7 @@ public class CGWApp extends Application {
      * and adds it to the Window title.
      */
     public void setUpWorld() {
-        currentWorld = WorldGenerator.getWorldGenerator().getWorld();
+        currentWorld = SceneNavigator.getCurrentWorld();
         stage.setTitle("Computer Generated Worlds: " + currentWorld.getName());
     }
 
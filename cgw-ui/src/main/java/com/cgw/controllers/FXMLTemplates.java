@@ -0,0 +1,128 @@
+package com.cgw.controllers;
+
+import javafx.fxml.FXMLLoader;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Loads the FXML files of the Application, reading each file from the resources only once.
+ * The Wiki's Tab templates are also kept in a small Pool of already loaded Tabs, so opening a page only has to set
+ * up a Tab rather than load one. The Pools are filled on a background Thread, first while a World is Generating and
+ * then again whenever a Tab is taken. Only templates whose Controllers do nothing but set up their own Nodes when
+ * initialised can be Pooled, as the Tabs are loaded before they are needed and off the JavaFX Thread.
+ * @author Luke Burston
+ * @author lb800@kent.ac.uk
+ * @version 0.1
+ * @since 0.1
+ */
+public class FXMLTemplates {
+
+    // FXML file names of the Wiki's Tab templates.
+    public static final String wikiHOME           = "wikiHome.fxml";
+    public static final String npcTEMPLATE        = "wikiNPCTemplate.fxml";
+    public static final String settlementTEMPLATE = "wikiSettlementTemplate.fxml";
+
+    // Amount of loaded Tabs kept ready for each template.
+    static final int POOL_SIZE = 4;
+
+    // Contents of each FXML file, by file name.
+    private static final ConcurrentHashMap<String, byte[]> templates = new ConcurrentHashMap<>();
+    // Loaders of Tabs already loaded and not yet set up, by file name.
+    private static final ConcurrentHashMap<String, ConcurrentLinkedQueue<FXMLLoader>> pools = new ConcurrentHashMap<>();
+    // Single Thread for filling the Pools, so they are filled one Tab at a time without holding up the Application.
+    private static final ExecutorService warmer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "FXML Template Warmer");
+        thread.setDaemon(true);    // Does not stop the Application from closing.
+        return thread;
+    });
+
+    /**
+     * Loads an FXML file from its contents read the first time it was loaded.
+     * @param fxml The FXML file name to be loaded.
+     * @return The Loader, with its root and Controller loaded.
+     * @throws IOException If the FXML file is not found or cannot be loaded.
+     */
+    public static FXMLLoader load(String fxml) throws IOException {
+        // The location is still set so that relative paths, such as images, are found.
+        FXMLLoader loader = new FXMLLoader(getLocation(fxml));
+        try (InputStream template = new ByteArrayInputStream(getTemplate(fxml))) {
+            loader.load(template);
+        }
+        return loader;
+    }
+
+    /**
+     * Takes an already loaded Tab from the template's Pool, or loads one if the Pool is empty,
+     * then fills the Pool back up in the background.
+     * @param fxml The FXML file name of the Tab template.
+     * @return The Loader, with its root Tab and Controller loaded but not set up.
+     * @throws IOException If the FXML file is not found or cannot be loaded.
+     */
+    public static FXMLLoader take(String fxml) throws IOException {
+        FXMLLoader loader = getPool(fxml).poll();
+        warm(fxml);
+        return loader != null ? loader : load(fxml);
+    }
+
+    /**
+     * Fills the Pools of the templates given on the background Thread.
+     * @param fxmls The FXML file names of the Tab templates.
+     */
+    public static void warm(String... fxmls) {
+        for(String fxml : fxmls) {
+            warmer.execute(() -> {
+                ConcurrentLinkedQueue<FXMLLoader> pool = getPool(fxml);
+                try {
+                    while(pool.size() < POOL_SIZE) {
+                        pool.add(load(fxml));
+                    }
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            });
+        }
+    }
+
+    /**
+     * Returns the contents of an FXML file, reading it from the resources the first time.
+     * @param fxml The FXML file name.
+     * @return The contents of the file.
+     * @throws IOException If the FXML file is not found or cannot be read.
+     */
+    private static byte[] getTemplate(String fxml) throws IOException {
+        byte[] template = templates.get(fxml);
+        if(template == null) {
+            try (InputStream in = getLocation(fxml).openStream()) {
+                template = in.readAllBytes();
+            }
+            templates.put(fxml, template);
+        }
+        return template;
+    }
+
+    /**
+     * Returns the location of an FXML file within the resources.
+     * @param fxml The FXML file name.
+     * @return The URL of the file.
+     */
+    private static URL getLocation(String fxml) {
+        return Objects.requireNonNull(FXMLTemplates.class.getResource("/FXML/" + fxml), "No FXML file " + fxml);
+    }
+
+    /**
+     * Returns the Pool of a template, creating it the first time.
+     * @param fxml The FXML file name of the Tab template.
+     * @return The Pool of loaded Tabs.
+     */
+    private static ConcurrentLinkedQueue<FXMLLoader> getPool(String fxml) {
+        return pools.computeIfAbsent(fxml, key -> new ConcurrentLinkedQueue<>());
+    }
+}
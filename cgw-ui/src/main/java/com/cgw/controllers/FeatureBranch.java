@@ -0,0 +1,138 @@
+package com.cgw.controllers;
+
+import com.cgw.features.Feature;
+import com.cgw.features.Folder;
+import javafx.collections.ObservableList;
+import javafx.scene.control.TreeItem;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A branch of the World Wiki's TreeView that only creates its children the first time it is expanded, so the Wiki
+ * opens in the same time however large the World is.
+ * The Features of the branch are sorted when it is first expanded. If there are more than MAX_CHILDREN of them,
+ * they are split evenly into alphabetical buckets, e.g. 'Abbot - Ashdown', each a FeatureBranch of its own,
+ * so that no branch ever holds more than MAX_CHILDREN children however many Features there are.
+ * @param <T> The type of Feature in the branch.
+ * @author Luke Burston
+ * @author lb800@kent.ac.uk
+ * @version 0.1
+ * @since 0.1
+ */
+public class FeatureBranch<T extends Feature> extends TreeItem<Feature> {
+
+    static final int MAX_CHILDREN = 100;
+
+    // Gets the Features of the branch, only read in full when first expanded.
+    private Supplier<? extends Collection<T>> features;
+    private final Comparator<? super T> order;
+    private final Function<? super T, String> bucketName;
+    // The Features of a bucket, already sorted by the branch above it.
+    private List<T> sortedFeatures;
+    private boolean childrenCreated;
+
+    /**
+     * Constructor for a top level branch, such as 'People'.
+     * @param name The text used for the branch within the TreeView.
+     * @param features Gets the Features of the branch, which are only read in full when it is first expanded.
+     * @param order The order the Features are listed in.
+     * @param bucketName The text used for a Feature when naming the buckets it starts or ends, e.g. the Last Name.
+     */
+    public FeatureBranch(String name, Supplier<? extends Collection<T>> features, Comparator<? super T> order,
+                         Function<? super T, String> bucketName) {
+        super(new Folder(name));
+        this.features = features;
+        this.order = order;
+        this.bucketName = bucketName;
+    }
+
+    /**
+     * Constructor for a bucket of another branch.
+     * @param parent The branch the bucket is in.
+     * @param sortedFeatures The Features of the bucket, already sorted.
+     */
+    private FeatureBranch(FeatureBranch<T> parent, List<T> sortedFeatures) {
+        super(new Folder(bucketName(parent.bucketName, sortedFeatures)));
+        this.order = parent.order;
+        this.bucketName = parent.bucketName;
+        this.sortedFeatures = sortedFeatures;
+    }
+
+    /**
+     * Checks whether the branch has no Features, so an empty branch shows no expand arrow.
+     * This only checks the size of the Features, without creating the children.
+     * @return Boolean of whether the branch has no Features.
+     */
+    @Override
+    public boolean isLeaf() {
+        if(childrenCreated) {
+            return super.getChildren().isEmpty();
+        }
+        return sortedFeatures != null ? sortedFeatures.isEmpty() : features.get().isEmpty();
+    }
+
+    /**
+     * Returns the children of the branch, creating them the first time they are needed.
+     * @return The leaves or buckets of the branch.
+     */
+    @Override
+    public ObservableList<TreeItem<Feature>> getChildren() {
+        if(!childrenCreated) {
+            childrenCreated = true;
+            super.getChildren().setAll(createChildren());
+        }
+        return super.getChildren();
+    }
+
+    /**
+     * Creates a leaf for each Feature if there are few enough, otherwise splits them into buckets of about equal size,
+     * each holding no more than a power of MAX_CHILDREN Features, so that there are never more than MAX_CHILDREN buckets.
+     * @return The children of the branch.
+     */
+    private List<TreeItem<Feature>> createChildren() {
+        if(sortedFeatures == null) {
+            sortedFeatures = new ArrayList<>(features.get());
+            sortedFeatures.sort(order);
+            features = null;    // No longer needed, the sorted Features are kept instead.
+        }
+
+        int size = sortedFeatures.size();
+        List<TreeItem<Feature>> children = new ArrayList<>(Math.min(size, MAX_CHILDREN));
+        if(size <= MAX_CHILDREN) {
+            for(T feature : sortedFeatures) {
+                children.add(new TreeItem<>(feature));
+            }
+            return children;
+        }
+
+        // Finds the fewest buckets of at most a power of MAX_CHILDREN Features, then shares the Features evenly.
+        long bucketSize = MAX_CHILDREN;
+        while((size + bucketSize - 1) / bucketSize > MAX_CHILDREN) {
+            bucketSize *= MAX_CHILDREN;
+        }
+        int buckets = (int) ((size + bucketSize - 1) / bucketSize);
+        for(int bucket = 0; bucket < buckets; bucket++) {
+            int start = (int) ((long) size * bucket / buckets);
+            int end = (int) ((long) size * (bucket + 1) / buckets);
+            children.add(new FeatureBranch<>(this, sortedFeatures.subList(start, end)));
+        }
+        return children;
+    }
+
+    /**
+     * Names a bucket after its first and last Features, e.g. 'Abbot - Ashdown'.
+     * @param bucketName The text used for a Feature when naming the bucket.
+     * @param sortedFeatures The Features of the bucket, already sorted.
+     * @return The name of the bucket.
+     */
+    private static <T extends Feature> String bucketName(Function<? super T, String> bucketName, List<T> sortedFeatures) {
+        String first = bucketName.apply(sortedFeatures.get(0));
+        String last = bucketName.apply(sortedFeatures.get(sortedFeatures.size() - 1));
+        return first.equals(last) ? first : first + " - " + last;
+    }
+}
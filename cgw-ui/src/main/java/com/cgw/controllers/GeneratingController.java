@@ -0,0 +1,142 @@
+package com.cgw.controllers;
+
+import com.cgw.exceptions.GenerationFailureException;
+import com.cgw.generators.GenerationProgress;
+import com.cgw.generators.WorldGenerator;
+import javafx.application.Platform;
+import javafx.fxml.FXML;
+import javafx.fxml.Initializable;
+import javafx.scene.control.Label;
+import javafx.scene.layout.AnchorPane;
+
+import java.net.URL;
+import java.util.ResourceBundle;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A Controller class for the Generating Screen to be displayed while the program generates a new world.
+ * @author Luke Burston
+ * @author lb800@kent.ac.uk
+ * @version 0.1
+ * @since 0.1
+ */
+public class GeneratingController implements Initializable {
+
+    @FXML
+    public AnchorPane generatingScreen;
+    // Label showing the Progress of the Generation under the Generating title.
+    @FXML
+    public Label progressLabel;
+
+    /**
+     * Starts a new Thread to call the World Generator to create a new World, then when finished,
+     * calls the Scene Navigator to switch to that generated World's Wiki.
+     * The Progress of the Generation is shown while it runs.
+     * @throws InterruptedException For new Generation Thread.
+     */
+    private void generateWorld() throws InterruptedException {
+        // Loads the Wiki's Tabs in the background while Generating, so the first pages open straight away.
+        FXMLTemplates.warm(FXMLTemplates.wikiHOME, FXMLTemplates.npcTEMPLATE, FXMLTemplates.settlementTEMPLATE);
+
+        WorldGenerator worldGenerator = new WorldGenerator();
+        worldGenerator.getProgress().subscribe(new ProgressSubscriber());
+
+        Thread generationThread = new Thread(() -> {
+            try {
+                worldGenerator.generateWorld();
+            } catch (GenerationFailureException e) {
+                e.printStackTrace();
+            }
+            System.out.println("Finished");
+
+            // Once generation is fully finished and the Thread is done, calls the Application
+            // to load the Wiki scene and place it in the Main View.
+            Platform.runLater(() -> {
+                SceneNavigator.setCurrentWorld(worldGenerator.getWorld());
+                SceneNavigator.loadScene(SceneNavigator.wikiSCREEN);
+                SceneNavigator.setUpWorld();
+            });
+        }, "World Generation");
+        generationThread.setDaemon(true);   // Does not stop the Application from closing mid-Generation.
+        generationThread.start();
+    }
+
+    /**
+     * Shows each snapshot of the Generation's Progress in the Progress Label. Only one snapshot is asked for at a
+     * time, and the next only once the last has been shown on the JavaFX Thread, so the screen is never sent
+     * more updates than it can show and any in-between snapshots are skipped by the Publisher.
+     */
+    private class ProgressSubscriber implements Flow.Subscriber<GenerationProgress> {
+
+        private Flow.Subscription subscription;
+
+        /**
+         * Asks for the first snapshot once Subscribed.
+         * @param subscription The Subscription to the Progress.
+         */
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        /**
+         * Shows a snapshot on the JavaFX Thread, then asks for the next.
+         * @param progress The snapshot.
+         */
+        @Override
+        public void onNext(GenerationProgress progress) {
+            Platform.runLater(() -> {
+                progressLabel.setText(describe(progress));
+                subscription.request(1);
+            });
+        }
+
+        /**
+         * Shows that Generation failed.
+         * @param failure The reason Generation failed.
+         */
+        @Override
+        public void onError(Throwable failure) {
+            Platform.runLater(() -> progressLabel.setText("Generation failed: " + failure.getMessage()));
+        }
+
+        /**
+         * Nothing more to show once Generation has finished, as the Wiki is loaded.
+         */
+        @Override
+        public void onComplete() {}
+
+        /**
+         * Describes a snapshot for the Progress Label.
+         * @param progress The snapshot.
+         * @return The text to show.
+         */
+        private String describe(GenerationProgress progress) {
+            String stage = switch (progress.getStage()) {
+                case INITIAL -> "Creating the first People and Settlements";
+                case ITERATION -> "Iteration " + progress.getIteration();
+                case FINAL -> "Adding the final Relationships";
+                case FINISHED -> "Finished";
+            };
+            return String.format("%s: %d People, %d Settlements, %d Relationships%n"
+                            + "Homes %.0f%%, Families %.0f%%, Rulers %.0f%% (%.1fs)",
+                    stage, progress.getNPCs(), progress.getSettlements(), progress.getRelationships(),
+                    progress.getResidencePercentage() * 100, progress.getFamilyPercentage() * 100,
+                    progress.getRulerPercentage() * 100, progress.getElapsed(TimeUnit.MILLISECONDS) / 1000.0);
+        }
+    }
+
+    /**
+     * Calls the method to generate a new World as soon as this Controller is initialised.
+     */
+    @Override
+    public void initialize(URL url, ResourceBundle resourceBundle) {
+        try {
+            generateWorld();
+        } catch (InterruptedException e) {
+            e.printStackTrace();
+        }
+    }
+}
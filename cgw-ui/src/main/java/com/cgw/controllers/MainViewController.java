@@ -1,21 +1,26 @@
 package com.cgw.controllers;
 
+import com.cgw.features.World;
+import com.cgw.io.SnapshotWorldReader;
+import com.cgw.io.SnapshotWorldWriter;
 import javafx.application.HostServices;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Node;
 import javafx.scene.Scene;
 import javafx.scene.layout.AnchorPane;
+import javafx.stage.FileChooser;
 import javafx.stage.Modality;
 import javafx.stage.Stage;
 import javafx.stage.StageStyle;
 
+import java.io.File;
 import java.io.IOException;
 
 /**
  * A Controller class for the Main Window of the App. This Window remains active for the duration of
  * the Application, swapping out JavaFX Node in the center of the BorderPane with the new Window.
- * Also contains functionality for the MenuBar to access the About and Help windows.
+ * Also contains functionality for the MenuBar to open and save Worlds, and to access the About and Help windows.
  * @author Luke Burston
  * @author lb800@kent.ac.uk
  * @version 0.1
@@ -36,6 +41,54 @@ public class MainViewController {
         center.getChildren().setAll(node);
     }
 
+    /**
+     * Asks the user for a saved World Snapshot and shows it in the Wiki, without Generating it again.
+     */
+    @FXML
+    private void openWorld() {
+        File file = createWorldChooser("Open World").showOpenDialog(center.getScene().getWindow());
+        if(file == null) { return; }   // The user cancelled.
+        try {
+            World world = new SnapshotWorldReader().read(file.toPath());
+            SceneNavigator.setCurrentWorld(world);
+            SceneNavigator.loadScene(SceneNavigator.wikiSCREEN);
+            SceneNavigator.setUpWorld();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Asks the user where to save the World shown in the Wiki, and writes it there as a World Snapshot.
+     * Does nothing if no World has been Generated or opened yet.
+     */
+    @FXML
+    private void saveWorld() {
+        World world = SceneNavigator.getCurrentWorld();
+        if(world == null) { return; }
+        FileChooser chooser = createWorldChooser("Save World");
+        chooser.setInitialFileName(world.getName() + ".cgw");
+        File file = chooser.showSaveDialog(center.getScene().getWindow());
+        if(file == null) { return; }   // The user cancelled.
+        try {
+            new SnapshotWorldWriter().write(world, file.toPath());
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Creates a File Chooser showing only World Snapshots.
+     * @param title The title of the File Chooser Window.
+     * @return The File Chooser.
+     */
+    private FileChooser createWorldChooser(String title) {
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle(title);
+        chooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("World Snapshots", "*.cgw"));
+        return chooser;
+    }
+
     /**
      * Loads a new About Window containing information about the Application.
      * @throws IOException Thrown if fxml file not found.
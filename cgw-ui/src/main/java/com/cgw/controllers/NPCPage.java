@@ -0,0 +1,64 @@
+package com.cgw.controllers;
+
+import com.cgw.features.NPC;
+
+/**
+ * The content shown on an NPC's Wiki page, with each of the NPC's Attributes already formatted.
+ * @author Luke Burston
+ * @author lb800@kent.ac.uk
+ * @version 0.1
+ * @since 0.1
+ */
+public class NPCPage extends WikiPage {
+
+    private final String gender;
+    private final String age;
+    private final String ageGroup;
+    private final String race;
+
+    /**
+     * Constructor of an NPC's page, formatting its Attributes.
+     * @param npc The NPC the page is for.
+     */
+    public NPCPage(NPC npc) {
+        super(npc);
+        this.gender = capitalise(npc.getGenderString());
+        this.age = npc.getAge() + " Years";
+        this.ageGroup = capitalise(npc.getAgeGroupString());
+        this.race = npc.getRace();
+    }
+
+    /* Getters */
+
+    /**
+     * Returns the NPC's Gender, formatted for the page.
+     * @return The Gender, e.g. 'Female'.
+     */
+    public String getGender() {
+        return gender;
+    }
+
+    /**
+     * Returns the NPC's Age, formatted for the page.
+     * @return The Age, e.g. '46 Years'.
+     */
+    public String getAge() {
+        return age;
+    }
+
+    /**
+     * Returns the NPC's Age Group, formatted for the page.
+     * @return The Age Group, e.g. 'Adult'.
+     */
+    public String getAgeGroup() {
+        return ageGroup;
+    }
+
+    /**
+     * Returns the NPC's Race.
+     * @return The Race, e.g. 'Halfling'.
+     */
+    public String getRace() {
+        return race;
+    }
+}
@@ -0,0 +1,97 @@
+package com.cgw.controllers;
+
+import com.cgw.features.Feature;
+import com.cgw.relationships.Relationship;
+import com.cgw.relationships.RelationshipStrings;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.control.Hyperlink;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontPosture;
+import javafx.scene.text.FontWeight;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.commons.lang3.tuple.Triple;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * A Cell of the Relationships List on the NPC and Settlement Wiki pages. Each row is either the heading of a group
+ * of Relationships, e.g. 'Sister', or a HyperLink to a Feature in that group, which opens its Wiki page.
+ * The List only creates Cells for the rows that can be seen and reuses them while scrolling, so a page takes the
+ * same time to open however many Relationships its Feature has.
+ * @author Luke Burston
+ * @author lb800@kent.ac.uk
+ * @version 0.1
+ * @since 0.1
+ */
+public class RelationshipCell extends ListCell<Pair<RelationshipStrings, Feature>> {
+
+    private final Label heading = new Label();
+    private final Hyperlink relationshipFeature = new Hyperlink();
+
+    /**
+     * Constructor of a Cell, styled with the Wiki Color of its page.
+     * @param wikiColor The Color theme of the page, used for the headings.
+     * @param openFeature Opens the Wiki page of a Feature when its HyperLink is clicked.
+     */
+    public RelationshipCell(Color wikiColor, Consumer<Feature> openFeature) {
+        heading.setTextFill(wikiColor);
+        heading.setFont(Font.font("Candara", FontWeight.BOLD, FontPosture.REGULAR, 20));
+        relationshipFeature.setFont(Font.font("Candara", FontWeight.NORMAL, FontPosture.REGULAR, 20));
+        relationshipFeature.setOnAction(event -> openFeature.accept(getItem().getRight()));
+        setStyle("-fx-background-color: transparent;");
+    }
+
+    /**
+     * Shows the heading or HyperLink of the row the Cell is now used for.
+     * @param row The group of the row, and its Feature or Null for a heading.
+     * @param empty Whether the Cell has no row.
+     */
+    @Override
+    protected void updateItem(Pair<RelationshipStrings, Feature> row, boolean empty) {
+        super.updateItem(row, empty);
+        setText(null);
+        if(empty || row == null) {
+            setGraphic(null);
+        } else if(row.getRight() == null) {
+            heading.setText(row.getLeft().getHeading());
+            setGraphic(heading);
+        } else {
+            relationshipFeature.setText(row.getRight().getName());
+            setGraphic(relationshipFeature);
+        }
+    }
+
+    /**
+     * Creates the rows of the Relationships List from the Feature's Relationships, grouped by how each is shown on
+     * the Wiki, e.g. 'Sister'. A heading for each group is followed by a row for each Feature in it, with the groups
+     * in their Enum order and each group in the order its Relationships were made, so no sorting is needed.
+     * Called while the page is made, off the JavaFX Thread, once the World is fully Generated.
+     * @param feature The Feature whose page is showing.
+     * @return The rows, in order.
+     */
+    public static ObservableList<Pair<RelationshipStrings, Feature>> createRows(Feature feature) {
+        EnumMap<RelationshipStrings, List<Feature>> groups = new EnumMap<>(RelationshipStrings.class);
+        for(Triple<String, Feature, Relationship> relationship : feature.getTripleRelationships()) {
+            RelationshipStrings group = RelationshipStrings.fromLabel(relationship.getLeft(), relationship.getMiddle());
+            if(group != null) {
+                groups.computeIfAbsent(group, key -> new ArrayList<>()).add(relationship.getMiddle());
+            }
+        }
+        List<Pair<RelationshipStrings, Feature>> rows = new ArrayList<>();
+        for(Map.Entry<RelationshipStrings, List<Feature>> group : groups.entrySet()) {
+            rows.add(Pair.of(group.getKey(), null));
+            for(Feature groupFeature : group.getValue()) {
+                rows.add(Pair.of(group.getKey(), groupFeature));
+            }
+        }
+        return FXCollections.observableArrayList(rows);
+    }
+}
@@ -1,10 +1,9 @@
 package com.cgw.controllers;
 
 import com.cgw.CGWApp;
-import  javafx.fxml.FXMLLoader;
+import com.cgw.features.World;
 
 import java.io.IOException;
-import java.util.Objects;
 
 /**
  * Used to organise and set which Scene is displayed within the Main View.
@@ -23,6 +22,7 @@ public class SceneNavigator {
 
 	private static MainViewController mainViewController;
     private static CGWApp cgwApp;
+    private static World currentWorld;    // The most recently Generated World, shown in the Wiki.
 
     /**
      * Sets the Main View Controller in order to access the Center and set new scenes.
@@ -43,19 +43,37 @@ public class SceneNavigator {
 
     /**
      * A string of the FXML file name to be loaded into the Main View Stage.
+     * Screens are loaded fresh each time, as their Controllers start work when initialised,
+     * but each FXML file is only read from the resources once.
      * @param fxml The FXML file name to be loaded.
      */
     public static void loadScene(String fxml) {
         try {
-            mainViewController.setCenter(
-                    FXMLLoader.load(Objects.requireNonNull(SceneNavigator.class.getResource("/FXML/" + fxml))));
+            mainViewController.setCenter(FXMLTemplates.load(fxml).getRoot());
         } catch (IOException e) {
             e.printStackTrace();
         }
     }
 
     /**
-     * Calls the Application to get the World from the World Generator after it has been generated.
+     * Sets the World to be shown in the Wiki, once it has been generated.
+     * @param world The generated World.
+     */
+    public static void setCurrentWorld(World world) {
+        SceneNavigator.currentWorld = world;
+        WikiPages.clear();    // Pages made for the previous World are no longer needed.
+    }
+
+    /**
+     * Returns the World to be shown in the Wiki.
+     * @return The most recently generated World.
+     */
+    public static World getCurrentWorld() {
+        return currentWorld;
+    }
+
+    /**
+     * Calls the Application to get the World from the Scene Navigator after it has been generated.
      */
     public static void setUpWorld() {
         cgwApp.setUpWorld();
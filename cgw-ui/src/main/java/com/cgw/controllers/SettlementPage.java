@@ -0,0 +1,54 @@
+package com.cgw.controllers;
+
+import com.cgw.features.Settlement;
+
+/**
+ * The content shown on a Settlement's Wiki page, with each of the Settlement's Attributes already formatted.
+ * @author Luke Burston
+ * @author lb800@kent.ac.uk
+ * @version 0.1
+ * @since 0.1
+ */
+public class SettlementPage extends WikiPage {
+
+    private final String type;
+    private final String size;
+    private final String population;
+
+    /**
+     * Constructor of a Settlement's page, formatting its Attributes.
+     * @param settlement The Settlement the page is for.
+     */
+    public SettlementPage(Settlement settlement) {
+        super(settlement);
+        this.type = settlement.getType();
+        this.size = settlement.getSizeString();
+        this.population = settlement.getPopulation() + "";
+    }
+
+    /* Getters */
+
+    /**
+     * Returns the Settlement's Type.
+     * @return The Type, e.g. 'Town'.
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Returns the Settlement's Size, formatted for the page.
+     * @return The Size, e.g. 'Small'.
+     */
+    public String getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the Settlement's Population, formatted for the page.
+     * @return The Population as text.
+     */
+    public String getPopulation() {
+        return population;
+    }
+}
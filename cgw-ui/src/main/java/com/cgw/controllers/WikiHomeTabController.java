@@ -16,6 +16,7 @@ import javafx.scene.paint.Color;
 import java.io.IOException;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 import java.util.ResourceBundle;
 
@@ -78,7 +79,7 @@ public class WikiHomeTabController implements Initializable {
      */
     private void setUpHyperLinks() {
         // Gets 5 random NPCs, without duplicates.
-        ArrayList<NPC> npcs = currentWorld.getAllNPCs();
+        List<NPC> npcs = currentWorld.getAllNPCs();
         ArrayList<NPC> linkedNPCs = new ArrayList<>();
         while(!(linkedNPCs.size() >= 5)) {
             NPC npc = npcs.get(Randomiser.getRandom().nextInt(npcs.size()));
@@ -131,7 +132,7 @@ public class WikiHomeTabController implements Initializable {
         });
 
         // Gets 5 random Settlements, without duplicates.
-        ArrayList<Settlement> settlements = currentWorld.getAllSettlements();
+        List<Settlement> settlements = currentWorld.getAllSettlements();
         ArrayList<Settlement> linkedSettlements = new ArrayList<>();
         while(!(linkedSettlements.size() >= 5)) {
             Settlement settlement = settlements.get(Randomiser.getRandom().nextInt(settlements.size()));
@@ -200,7 +201,7 @@ public class WikiHomeTabController implements Initializable {
      */
     @FXML
     private void openRandomNPC() throws IOException {
-        ArrayList<NPC> npcs = currentWorld.getAllNPCs();
+        List<NPC> npcs = currentWorld.getAllNPCs();
         currentWiki.openTabFromLink(npcs.get(Randomiser.getRandom().nextInt(npcs.size())));
     }
 
@@ -210,7 +211,7 @@ public class WikiHomeTabController implements Initializable {
      */
     @FXML
     private void openRandomSettlement() throws IOException {
-        ArrayList<Settlement> settlements = currentWorld.getAllSettlements();
+        List<Settlement> settlements = currentWorld.getAllSettlements();
         currentWiki.openTabFromLink(settlements.get(Randomiser.getRandom().nextInt(settlements.size())));
     }
 
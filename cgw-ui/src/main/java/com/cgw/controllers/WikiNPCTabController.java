@@ -0,0 +1,165 @@
+package com.cgw.controllers;
+
+import com.cgw.Bloom;
+import com.cgw.EleutherAI;
+import com.cgw.GPT2AI;
+import com.cgw.features.Feature;
+import com.cgw.features.NPC;
+import com.cgw.relationships.RelationshipStrings;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.event.ActionEvent;
+import javafx.fxml.FXML;
+import javafx.fxml.Initializable;
+import javafx.scene.control.*;
+import javafx.scene.paint.Color;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.*;
+
+/**
+ * A Controller class for the NPC wiki page template to be loaded for each NPC.
+ * @author Luke Burston
+ * @author lb800@kent.ac.uk
+ * @version 0.1
+ * @since 0.1
+ */
+public class WikiNPCTabController implements Initializable {
+
+
+    @FXML public Tab npcTab;    // The tab for the NPC page.
+    // Labels for the NPC's Attributes.
+    @FXML public Label npcName;
+    @FXML public Label npcGender;
+    @FXML public Label npcAge;
+    @FXML public Label npcAgeGroup;
+    @FXML public Label npcRace;
+    // List of the Relationships, grouped under headings, which scrolls when they overfill it.
+    @FXML public ListView<Pair<RelationshipStrings, Feature>> relationshipListView;
+    // Story Text Section, with a Button to generate Story and Text Area to place the result.
+    @FXML public Button generateStoryButton;
+    @FXML public TextArea storyText;
+    @FXML public ComboBox<String> apiModelChoice;
+
+    private WorldWikiController currentWiki;
+    private NPC npc;
+
+    /**
+     * Sets up the NPC Wiki content based on the NPC given.
+     * The Tab is named straight away, and the rest of the content is shown once its page has been made
+     * on a background Thread.
+     * @param npc The NPC for this Wiki.
+     */
+    @FXML
+    public void setUpNPC(NPC npc) {
+        this.npc = npc;
+        npcTab.setUserData(npc);
+        npcTab.setText(npc.getName());
+
+        // The Story can only be Generated once the NPC's details are shown.
+        generateStoryButton.setDisable(true);
+        WikiPages.show(npc, page -> showPage((NPCPage) page));
+    }
+
+    /**
+     * Sets the Labels and Relationships List from the NPC's page, which has already been formatted.
+     * @param page The NPC's page.
+     */
+    private void showPage(NPCPage page) {
+        // Sets the color for this NPC's Wiki Color theme, based on it's HashCode.
+        Color wikiColor = getWikiColor(page.getHue());
+        setWikiColor(wikiColor);
+
+        npcName.setText(page.getName());
+        npcGender.setText(page.getGender());
+        npcAge.setText(page.getAge());
+        npcAgeGroup.setText(page.getAgeGroup());
+        npcRace.setText(page.getRace());
+
+        // Shows the Relationships of the NPC in a List grouped under headings, with a HyperLink to take the user
+        // to each Feature's Wiki page. The groups are only sorted once for each NPC, and the List only creates
+        // rows for the Relationships that can be seen.
+        relationshipListView.setCellFactory(listView -> new RelationshipCell(wikiColor, feature -> {
+            try {
+                currentWiki.openTabFromLink(feature);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }));
+        relationshipListView.setItems(page.getRelationshipRows());
+        generateStoryButton.setDisable(false);
+    }
+
+    /**
+     * Sets all the Labels and Button text's to the same color for the NPC's Theme.
+     * @param wikiColor Randomly chosen Hue for the NPC based on it's HashCode.
+     */
+    private void setWikiColor(Color wikiColor) {
+        npcName.setTextFill(wikiColor);
+        npcGender.setTextFill(wikiColor);
+        npcAge.setTextFill(wikiColor);
+        npcAgeGroup.setTextFill(wikiColor);
+        npcRace.setTextFill(wikiColor);
+    }
+
+    /**
+     * Creates a new Color based on the preset Saturation and Brightness, but uses the
+     * random Hue value of the NPC's page, made from its HashCode, which will remain the same for
+     * whenever this NPC's page is loaded.
+     * @param hue The Hue value of the NPC's page.
+     * @return The Color created with the Random Hue value.
+     */
+    public Color getWikiColor(int hue) {
+        Color initialColor = (Color) npcName.getTextFill();
+        return Color.hsb(hue, initialColor.getSaturation(), initialColor.getBrightness());
+    }
+
+    /**
+     * Sets the Wiki Controller for the Wiki Scene in order to
+     * call its methods for opening a new Tab.
+     * @param currentWiki The World Wiki Controller.
+     */
+    public void setCurrentWiki(WorldWikiController currentWiki) {
+        this.currentWiki = currentWiki;
+    }
+
+    /**
+     * Calls the API for text Generation and sets the text in the Text Area.
+     */
+    public void generateStory() throws IOException {
+        String prompt = "This is a story about " + npcName.getText() + ", a " + npcAge.getText().split(" ")[0] +
+                " year-old " + npcAgeGroup.getText() + " " + npcRace.getText() + ", who ";
+        switch (apiModelChoice.getValue()) {
+            case "GPT2" -> {
+                String response = Objects.requireNonNull(GPT2AI.cURLTest(prompt)).substring(22);
+                response = response.substring(0, response.length() - 3);
+                response = response.replace(" }", "");
+
+                storyText.setText(response);
+            }
+            case "Bloom" -> {
+                storyText.setText(Bloom.cURLTest(prompt));
+            }
+            case "Eleuther" -> {
+                String response = Objects.requireNonNull(EleutherAI.cURLTest(prompt)).substring(22);
+                response = response.substring(0, response.length() - 3);
+                response = response.replace(" }", "");
+                response = response.replace("'{", " ");
+                response = response.replace("}'{", " ");
+
+                storyText.setText(response);
+            }
+        }
+    }
+
+    @Override
+    public void initialize(URL url, ResourceBundle resourceBundle) {
+        storyText.setWrapText(true);
+
+        ObservableList<String> apiChoices = FXCollections.observableArrayList("GPT2", "Bloom", "Eleuther");
+        apiModelChoice.getItems().addAll(apiChoices);
+        apiModelChoice.setValue(apiModelChoice.getItems().get(0));
+    }
+}
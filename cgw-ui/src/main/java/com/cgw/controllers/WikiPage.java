@@ -0,0 +1,96 @@
+package com.cgw.controllers;
+
+import com.cgw.features.Feature;
+import com.cgw.features.NPC;
+import com.cgw.features.Settlement;
+import com.cgw.relationships.RelationshipStrings;
+import javafx.collections.ObservableList;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.Random;
+
+/**
+ * The content shown on a Feature's Wiki page, worked out before the page is shown so that its Controller only has to
+ * set its Labels and List. Pages are made by the Wiki Pages on a background Thread, so none of the Relationships
+ * are gathered or text formatted on the JavaFX Thread.
+ * @author Luke Burston
+ * @author lb800@kent.ac.uk
+ * @version 0.1
+ * @since 0.1
+ */
+public class WikiPage {
+
+    private final Feature feature;
+    private final String name;
+    private final int hue;
+    private final ObservableList<Pair<RelationshipStrings, Feature>> relationshipRows;
+
+    /**
+     * Constructor of a page, working out the content shared by all Features.
+     * @param feature The Feature the page is for.
+     */
+    protected WikiPage(Feature feature) {
+        this.feature = feature;
+        this.name = feature.getName();
+        // Uses the Feature's HashCode to create a random Hue value, which will remain the same for
+        // whenever this Feature's page is loaded.
+        this.hue = new Random(feature.hashCode()).nextInt(360);
+        this.relationshipRows = RelationshipCell.createRows(feature);
+    }
+
+    /**
+     * Creates the page of a Feature, of the type for that Feature.
+     * @param feature The NPC or Settlement.
+     * @return The NPC Page or Settlement Page.
+     */
+    public static WikiPage create(Feature feature) {
+        return switch (feature.getSubClass().getSimpleName()) {
+            case "NPC" -> new NPCPage((NPC) feature);
+            case "Settlement" -> new SettlementPage((Settlement) feature);
+            default -> new WikiPage(feature);
+        };
+    }
+
+    /**
+     * Capitalises the first letter of some text, such as a Gender, for showing as a heading.
+     * @param text The text, e.g. 'female'.
+     * @return The capitalised text, e.g. 'Female'.
+     */
+    protected static String capitalise(String text) {
+        return text.substring(0, 1).toUpperCase() + text.substring(1);
+    }
+
+    /* Getters */
+
+    /**
+     * Returns the Feature the page is for.
+     * @return The NPC or Settlement.
+     */
+    public Feature getFeature() {
+        return feature;
+    }
+
+    /**
+     * Returns the name shown as the page's title.
+     * @return The Feature's name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the Hue of the page's Color theme.
+     * @return The Hue, from 0 to 359.
+     */
+    public int getHue() {
+        return hue;
+    }
+
+    /**
+     * Returns the rows of the page's Relationships List, grouped under headings.
+     * @return The rows, in order.
+     */
+    public ObservableList<Pair<RelationshipStrings, Feature>> getRelationshipRows() {
+        return relationshipRows;
+    }
+}
@@ -0,0 +1,104 @@
+package com.cgw.controllers;
+
+import com.cgw.features.Feature;
+import com.cgw.relationships.RelationshipStrings;
+import javafx.application.Platform;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Makes the Wiki Pages of Features on background Threads, so opening a page never holds up the JavaFX Thread.
+ * Pages are kept once made, up to MAX_PAGES of the most recently used, and when a page is shown the pages of the
+ * Features it links to are made ahead of time, so following a HyperLink usually finds its page already made.
+ * Pages are only made for a World once it has been fully Generated, as the Features are not changed after that.
+ * @author Luke Burston
+ * @author lb800@kent.ac.uk
+ * @version 0.1
+ * @since 0.1
+ */
+public class WikiPages {
+
+    // Amount of pages kept once made.
+    static final int MAX_PAGES = 256;
+    // Amount of linked pages made ahead of time when a page is shown.
+    static final int PREFETCH_LINKS = 16;
+
+    // Pages made or being made, by Feature, in order of when they were last used.
+    private static final LinkedHashMap<Feature, CompletableFuture<WikiPage>> pages =
+            new LinkedHashMap<>(MAX_PAGES, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Feature, CompletableFuture<WikiPage>> eldest) {
+                    return size() > MAX_PAGES;
+                }
+            };
+    // Threads for making pages, which do not stop the Application from closing.
+    private static final ExecutorService pageMaker = Executors.newFixedThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "Wiki Page Maker");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Returns the page of a Feature, starting to make it on a background Thread if it has not been already.
+     * @param feature The Feature of the page.
+     * @return The page, once made.
+     */
+    public static CompletableFuture<WikiPage> get(Feature feature) {
+        synchronized (pages) {
+            return pages.computeIfAbsent(feature,
+                    key -> CompletableFuture.supplyAsync(() -> WikiPage.create(key), pageMaker));
+        }
+    }
+
+    /**
+     * Shows the page of a Feature once it is made, on the JavaFX Thread, then makes the pages it links to.
+     * If the page has already been made it is shown straight away.
+     * @param feature The Feature of the page.
+     * @param showPage Sets the Controller's Labels and List from the page.
+     */
+    public static void show(Feature feature, Consumer<WikiPage> showPage) {
+        CompletableFuture<WikiPage> page = get(feature);
+        Consumer<WikiPage> showThenPrefetch = madePage -> {
+            showPage.accept(madePage);
+            prefetch(madePage);
+        };
+        if(page.isDone() && !page.isCompletedExceptionally()) {
+            showThenPrefetch.accept(page.join());
+        } else {
+            page.thenAcceptAsync(showThenPrefetch, Platform::runLater).exceptionally(e -> {
+                e.printStackTrace();
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Starts making the pages of the first Features a page links to, so they are ready if followed.
+     * @param page The page being shown.
+     */
+    public static void prefetch(WikiPage page) {
+        int prefetched = 0;
+        for(Pair<RelationshipStrings, Feature> row : page.getRelationshipRows()) {
+            if(prefetched >= PREFETCH_LINKS) { break; }
+            if(row.getRight() != null) {
+                get(row.getRight());
+                prefetched++;
+            }
+        }
+    }
+
+    /**
+     * Removes all pages made, such as when a different World is shown in the Wiki.
+     */
+    public static void clear() {
+        synchronized (pages) {
+            pages.clear();
+        }
+    }
+}
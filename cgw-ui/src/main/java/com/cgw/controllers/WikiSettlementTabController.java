@@ -5,7 +5,6 @@ import com.cgw.EleutherAI;
 import com.cgw.GPT2AI;
 import com.cgw.features.Feature;
 import com.cgw.features.Settlement;
-import com.cgw.relationships.Relationship;
 import com.cgw.relationships.RelationshipStrings;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -13,13 +12,8 @@ import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.control.*;
-import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
-import javafx.scene.text.Font;
-import javafx.scene.text.FontPosture;
-import javafx.scene.text.FontWeight;
-import javafx.scene.text.TextFlow;
-import org.apache.commons.lang3.tuple.Triple;
+import org.apache.commons.lang3.tuple.Pair;
 
 import java.io.IOException;
 import java.net.URL;
@@ -40,9 +34,8 @@ public class WikiSettlementTabController implements Initializable {
     @FXML public Label settlementType;
     @FXML public Label settlementSize;
     @FXML public Label settlementPopulation;
-    // VBox to be able to add as many Relationships as required.
-    // Within a ScrollPane which appears when Relationships overfill the VBox.
-    @FXML public VBox relationshipLabelVBox;
+    // List of the Relationships, grouped under headings, which scrolls when they overfill it.
+    @FXML public ListView<Pair<RelationshipStrings, Feature>> relationshipListView;
     // Story Text Section, with a Button to generate Story and Text Area to place the result.
     @FXML public Button generateStoryButton;
     @FXML public TextArea storyText;
@@ -54,6 +47,8 @@ public class WikiSettlementTabController implements Initializable {
 
     /**
      * Sets up the Settlement Wiki content based on the Settlement given.
+     * The Tab is named straight away, and the rest of the content is shown once its page has been made
+     * on a background Thread.
      * @param settlement The Settlement for this Wiki.
      */
     public void setUpSettlement(Settlement settlement) {
@@ -61,56 +56,37 @@ public class WikiSettlementTabController implements Initializable {
         settlementTab.setUserData(settlement);
         settlementTab.setText(settlement.getName());
 
+        // The Story can only be Generated once the Settlement's details are shown.
+        generateStoryButton.setDisable(true);
+        WikiPages.show(settlement, page -> showPage((SettlementPage) page));
+    }
+
+    /**
+     * Sets the Labels and Relationships List from the Settlement's page, which has already been formatted.
+     * @param page The Settlement's page.
+     */
+    private void showPage(SettlementPage page) {
         // Sets the color for this Settlement's Wiki Color theme, based on it's HashCode.
-        Color wikiColor = getRandomHue();
+        Color wikiColor = getWikiColor(page.getHue());
         setWikiColor(wikiColor);
 
-        settlementName.setText(settlement.getName());
-        settlementType.setText(settlement.getType());
-        settlementSize.setText(settlement.getSizeString());
-        settlementPopulation.setText(settlement.getPopulation()+"");
-
-        // Gets the Relationships of the Settlement and places each on the Wiki with a Label
-        // of the relationship, and a HyperLink to take the user to their Wiki page.
-        ArrayList<TextFlow> relationshipTexts = new ArrayList<>();
-        ArrayList<Triple<String, Feature, Relationship>> relationships = settlement.getTripleRelationships();
-        for(Triple<String, Feature, Relationship> relationship: relationships) {
-            Label relationshipLabel = new Label();
-            Hyperlink relationshipFeature = new Hyperlink(relationship.getMiddle().getName());
-
-            relationshipLabel.setTextFill(wikiColor);
-            relationshipLabel.setFont(Font.font("Candara", FontWeight.BOLD, FontPosture.REGULAR, 20));
-            relationshipFeature.setFont(Font.font("Candara", FontWeight.NORMAL, FontPosture.REGULAR, 20));
-
-            relationshipFeature.setOnAction(event -> {
-                try {
-                    currentWiki.openTabFromLink(relationship.getMiddle());
-                } catch (IOException e) {
-                    e.printStackTrace();
-                }
-            });
-
-            // Uses ENUMs to set the specific label for that relationship, different for different genders.
-            switch (relationship.getLeft()) {
-                case "resident" -> relationshipLabel.setText((RelationshipStrings.RESIDENT.toString()));
-                case "ruler" -> relationshipLabel.setText((RelationshipStrings.RULER.toString()));
-                case "trades" -> relationshipLabel.setText((RelationshipStrings.TRADES.toString()));
-                case "rival" -> relationshipLabel.setText((RelationshipStrings.RIVAL.toString()));
+        settlementName.setText(page.getName());
+        settlementType.setText(page.getType());
+        settlementSize.setText(page.getSize());
+        settlementPopulation.setText(page.getPopulation());
+
+        // Shows the Relationships of the Settlement in a List grouped under headings, with a HyperLink to take the user
+        // to each Feature's Wiki page. The groups are only sorted once for each Settlement, and the List only creates
+        // rows for the Relationships that can be seen.
+        relationshipListView.setCellFactory(listView -> new RelationshipCell(wikiColor, feature -> {
+            try {
+                currentWiki.openTabFromLink(feature);
+            } catch (IOException e) {
+                e.printStackTrace();
             }
-
-            relationshipTexts.add(new TextFlow(relationshipLabel, relationshipFeature));
-        }
-
-        // Compares the Relationships by their tags and sorts them into an order based on their Enum order.
-        Comparator<TextFlow> relationshipViewOrder = (o1, o2) -> {
-            Label l1 = (Label) o1.getChildren().get(0);
-            Label l2 = (Label) o2.getChildren().get(0);
-            String s1 = l1.getText();
-            String s2 = l2.getText();
-            return RelationshipStrings.getRelationshipFromString(s1).compareTo(RelationshipStrings.getRelationshipFromString(s2));
-        };
-        relationshipTexts.sort(relationshipViewOrder);
-        relationshipLabelVBox.getChildren().addAll(relationshipTexts);
+        }));
+        relationshipListView.setItems(page.getRelationshipRows());
+        generateStoryButton.setDisable(false);
     }
 
     /**
@@ -126,19 +102,14 @@ public class WikiSettlementTabController implements Initializable {
 
     /**
      * Creates a new Color based on the preset Saturation and Brightness, but uses the
-     * Settlement's HashCode to create a random Hue value, which will remain the same for
+     * random Hue value of the Settlement's page, made from its HashCode, which will remain the same for
      * whenever this Settlement's page is loaded.
-     * @return The Color created with a Random Hue value.
+     * @param hue The Hue value of the Settlement's page.
+     * @return The Color created with the Random Hue value.
      */
-    public Color getRandomHue() {
+    public Color getWikiColor(int hue) {
         Color initialColor = (Color) settlementName.getTextFill();
-        double[]hsb = new double[3];
-        Random random = new Random(settlement.hashCode());
-        hsb[0] = random.nextInt(360);
-        hsb[1] = initialColor.getSaturation();
-        hsb[2] = initialColor.getBrightness();
-
-        return Color.hsb(hsb[0], hsb[1], hsb[2]);
+        return Color.hsb(hue, initialColor.getSaturation(), initialColor.getBrightness());
     }
 
     /**
@@ -1,7 +1,6 @@
 package com.cgw.controllers;
 
 import com.cgw.features.*;
-import com.cgw.generators.WorldGenerator;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.fxml.Initializable;
@@ -14,6 +13,7 @@ import javafx.scene.input.MouseEvent;
 import java.io.IOException;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.ResourceBundle;
 
@@ -48,29 +48,18 @@ public class WorldWikiController implements Initializable {
     public void populateWiki() throws IOException {
         // Sets the Directories of the TreeView. These must all be Features in order to
         // be added, so the World extends Feature and a Folder class that also extends Feature
-        // is used for the Feature types, which is its only function.
+        // is used for the Feature types and their buckets, which is its only function.
         TreeItem<Feature> worldRoot = new TreeItem<>(currentWorld);
-        TreeItem<Feature> npcsBranch = new TreeItem<>(new Folder("People"));
-        TreeItem<Feature> settlementsBranch = new TreeItem<>(new Folder("Settlements"));
 
-        // Creates a leaf node for each NPC and Settlement, adding them to their respective branch.
-        for(NPC npc: currentWorld.getAllNPCs()) {
-            npcsBranch.getChildren().add(new TreeItem<>(npc));
-        }
-        for(Settlement settlement: currentWorld.getAllSettlements()) {
-            settlementsBranch.getChildren().add(new TreeItem<>(settlement));
-        }
-        // Sorts the two branches to be alphabetical. For NPCs, this is first by Last Name, then First.
-        npcsBranch.getChildren().sort((o1, o2) -> {
-            NPC npc1 = (NPC) o1.getValue();
-            NPC npc2 = (NPC) o2.getValue();
-            int result = npc1.getLastName().compareToIgnoreCase(npc2.getLastName());
-            if (result != 0) {
-                return result;
-            }
-            return npc1.getName().compareToIgnoreCase(npc2.getName());
-        });
-        settlementsBranch.getChildren().sort((o1, o2) -> o1.toString().compareToIgnoreCase(o2.toString()));
+        // The branches only create a leaf for each NPC and Settlement when first expanded, split into alphabetical
+        // buckets for large Worlds. For NPCs, this is first by Last Name, then First.
+        FeatureBranch<NPC> npcsBranch = new FeatureBranch<>("People", currentWorld::getAllNPCs,
+                Comparator.comparing(NPC::getLastName, String.CASE_INSENSITIVE_ORDER)
+                        .thenComparing(NPC::getName, String.CASE_INSENSITIVE_ORDER),
+                NPC::getLastName);
+        FeatureBranch<Settlement> settlementsBranch = new FeatureBranch<>("Settlements", currentWorld::getAllSettlements,
+                Comparator.comparing(Settlement::getName, String.CASE_INSENSITIVE_ORDER),
+                Settlement::getName);
 
         worldRoot.getChildren().addAll(npcsBranch, settlementsBranch);
         worldRoot.setExpanded(true);    // Sets the World Branch to be expanded on open.
@@ -170,13 +159,13 @@ public class WorldWikiController implements Initializable {
     }
 
     /**
-     * Loads the Home Page from an FXML and returns a new Tab with its details set up.
+     * Takes a loaded Home Page from the Template Pool and returns it as a new Tab with its details set up.
      * @return Home Page Tab.
      * @throws IOException If FXML file is not found.
      */
     private Tab createHomeTab() throws IOException {
-        FXMLLoader loader = new FXMLLoader(getClass().getResource("/FXML/wikiHome.fxml"));
-        Tab newHomeTab = loader.load();
+        FXMLLoader loader = FXMLTemplates.take(FXMLTemplates.wikiHOME);
+        Tab newHomeTab = loader.getRoot();
         WikiHomeTabController controller = loader.getController();
         controller.setCurrentWiki(this);
 
@@ -186,13 +175,13 @@ public class WorldWikiController implements Initializable {
     }
 
     /**
-     * Loads the NPC Page from an FXML and returns a new Tab with its details set up.
+     * Takes a loaded NPC Page from the Template Pool and returns it as a new Tab with its details set up.
      * @return NPC Page Tab.
      * @throws IOException If FXML file is not found.
      */
     private Tab createNPCTab(NPC npc) throws IOException {
-        FXMLLoader loader = new FXMLLoader(getClass().getResource("/FXML/wikiNPCTemplate.fxml"));
-        Tab newNPCTab = loader.load();
+        FXMLLoader loader = FXMLTemplates.take(FXMLTemplates.npcTEMPLATE);
+        Tab newNPCTab = loader.getRoot();
         WikiNPCTabController controller = loader.getController();
         controller.setCurrentWiki(this);
 
@@ -202,13 +191,13 @@ public class WorldWikiController implements Initializable {
     }
 
     /**
-     * Loads the Settlement Page from an FXML and returns a new Tab with its details set up.
+     * Takes a loaded Settlement Page from the Template Pool and returns it as a new Tab with its details set up.
      * @return Settlement Page Tab.
      * @throws IOException If FXML file is not found.
      */
     private Tab createSettlementTab(Settlement settlement) throws IOException {
-        FXMLLoader loader = new FXMLLoader(getClass().getResource("/FXML/wikiSettlementTemplate.fxml"));
-        Tab newSettlementTab = loader.load();
+        FXMLLoader loader = FXMLTemplates.take(FXMLTemplates.settlementTEMPLATE);
+        Tab newSettlementTab = loader.getRoot();
         WikiSettlementTabController controller = loader.getController();
         controller.setCurrentWiki(this);
 
@@ -218,11 +207,11 @@ public class WorldWikiController implements Initializable {
     }
 
     /**
-     * Initializes the World Wiki, setting its world from the World Generator and Populating the Wiki Scene.
+     * Initializes the World Wiki, setting its world from the Scene Navigator and Populating the Wiki Scene.
      */
     @Override
     public void initialize(URL url, ResourceBundle resourceBundle) {
-        setCurrentWorld(WorldGenerator.getWorldGenerator().getWorld());
+        setCurrentWorld(SceneNavigator.getCurrentWorld());
         try {
             populateWiki();
         } catch (IOException e) {